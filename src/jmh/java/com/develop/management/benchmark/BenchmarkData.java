@@ -0,0 +1,85 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
+import com.develop.management.dto.spaceship.PageResponseDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.model.Spaceship;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /** Configured like the ObjectMapper Spring Boot injects into the service. */
+    static ObjectMapper applicationObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static Spaceship spaceship(long id) {
+        Spaceship spaceship = new Spaceship();
+        spaceship.setId(id);
+        spaceship.setName("Millennium Falcon " + id);
+        spaceship.setSeriesOrMovie("Star Wars");
+        spaceship.setType("Light freighter");
+        spaceship.setCrewCapacity(6);
+        return spaceship;
+    }
+
+    static List<Spaceship> spaceships(int count) {
+        List<Spaceship> spaceships = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            spaceships.add(spaceship(id));
+        }
+        return spaceships;
+    }
+
+    static SpaceshipDto spaceshipDto(long id) {
+        return SpaceshipDto.builder()
+                .id(id)
+                .name("Millennium Falcon " + id)
+                .seriesOrMovie("Star Wars")
+                .type("Light freighter")
+                .crewCapacity(6)
+                .build();
+    }
+
+    static CreateSpaceshipRequestDto createRequest() {
+        return CreateSpaceshipRequestDto.builder()
+                .name("Millennium Falcon")
+                .seriesOrMovie("Star Wars")
+                .type("Light freighter")
+                .crewCapacity(6)
+                .build();
+    }
+
+    static PageResponseDto<SpaceshipDto> page(int pageSize) {
+        List<SpaceshipDto> content = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(spaceshipDto(id));
+        }
+        return PageResponseDto.<SpaceshipDto>builder()
+                .content(content)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(1_000_000)
+                .totalPages(1_000_000 / pageSize)
+                .build();
+    }
+
+    static SpaceshipEventDto event() {
+        return SpaceshipEventDto.builder()
+                .eventType("UPDATE")
+                .spaceshipId(42L)
+                .spaceshipName("Millennium Falcon")
+                .crewCapacity(6)
+                .type("Light freighter")
+                .seriesOrMovie("Star Wars")
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.security.JwtPrincipal;
+import com.develop.management.security.JwtUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@code JwtAuthTokenFilter}.
+ * {@code legacyTripleParse} reproduces the filter before tokens were parsed once and cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "SuperSecretBenchmarkSecretKey1234567890987654321";
+
+    private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+        jwtUtils = new JwtUtils(SECRET, 10_000);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 3_600_000);
+        token = jwtUtils.generateJwtToken("admin@gmail.com", List.of("ADMIN", "USER"));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void legacyTripleParse(Blackhole blackhole) {
+        Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+        Claims usernameClaims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        Claims roleClaims = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        List<String> roles = roleClaims.get("roles", List.class);
+        blackhole.consume(usernameClaims.getSubject());
+        blackhole.consume(roles.stream().map(SimpleGrantedAuthority::new).toList());
+    }
+
+    /** What a cache miss costs: one verification with the shared parser. */
+    @Benchmark
+    public Claims sharedParserSingleParse() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedParseToken() {
+        return jwtUtils.parseToken(token).orElseThrow();
+    }
+}
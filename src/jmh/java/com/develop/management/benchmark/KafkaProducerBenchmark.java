@@ -0,0 +1,98 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.msgbrokers.kafka.KafkaSpaceshipProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events per second the outbox relay gets through {@link KafkaSpaceshipProducer} against an embedded broker with
+ * three partitions. {@code defaults} is the producer before tuning (client defaults only), {@code tuned} mirrors
+ * {@code spring.kafka.producer} in application.yml. Each invocation relays one outbox batch of 500 events and
+ * waits for every acknowledgement, as the relay does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class KafkaProducerBenchmark {
+
+    private static final String TOPIC = "spaceship-events";
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"defaults", "tuned"})
+    private String producerConfig;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private DefaultKafkaProducerFactory<String, SpaceshipEventDto> producerFactory;
+    private KafkaSpaceshipProducer producer;
+    private List<SpaceshipEventDto> events;
+
+    @Setup
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // KafkaTestUtils pins its own batching and retry settings; start from the client defaults instead
+        props.remove(ProducerConfig.BATCH_SIZE_CONFIG);
+        props.remove(ProducerConfig.LINGER_MS_CONFIG);
+        props.remove(ProducerConfig.RETRIES_CONFIG);
+        if ("tuned".equals(producerConfig)) {
+            props.put(ProducerConfig.ACKS_CONFIG, "all");
+            props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, 64 * 1024);
+            props.put(ProducerConfig.LINGER_MS_CONFIG, 2);
+            props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        }
+        producerFactory = new DefaultKafkaProducerFactory<>(props);
+        producer = new KafkaSpaceshipProducer(new KafkaTemplate<>(producerFactory), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(producer, "spaceshipTopic", TOPIC);
+
+        events = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= BATCH_SIZE; id++) {
+            SpaceshipEventDto event = BenchmarkData.event();
+            event.setSpaceshipId(id);
+            events.add(event);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        producerFactory.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void relayBatch() {
+        CompletableFuture.allOf(producer.sendSpaceshipEvents(events).toArray(CompletableFuture[]::new)).join();
+    }
+}
@@ -0,0 +1,76 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.aspect.LatencyInterceptor;
+import com.develop.management.monitoring.LatencyRegistry;
+import com.develop.management.monitoring.LatencyTracked;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of {@link LatencyInterceptor} on a trivial method. A proxy with a pass-through interceptor isolates
+ * the cost of Spring AOP itself, which service and repository calls already pay for @Transactional, @Cacheable
+ * and Spring Data; the difference to {@code latencyTrackedCall} is what the interceptor adds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LatencyInterceptorBenchmark {
+
+    private TrackedService direct;
+    private TrackedService passThroughProxy;
+    private TrackedService trackedProxy;
+
+    @Setup
+    public void setUp() {
+        direct = new TrackedService();
+
+        Pointcut pointcut = LatencyInterceptor.pointcut();
+
+        ProxyFactory passThrough = new ProxyFactory(new TrackedService());
+        passThrough.setProxyTargetClass(true);
+        passThrough.addAdvisor(new DefaultPointcutAdvisor(pointcut, (MethodInterceptor) MethodInvocation::proceed));
+        passThroughProxy = (TrackedService) passThrough.getProxy();
+
+        ProxyFactory tracked = new ProxyFactory(new TrackedService());
+        tracked.setProxyTargetClass(true);
+        tracked.addAdvisor(new DefaultPointcutAdvisor(pointcut,
+                new LatencyInterceptor(new LatencyRegistry(Duration.ofMillis(250), 1000))));
+        trackedProxy = (TrackedService) tracked.getProxy();
+    }
+
+    @Benchmark
+    public long directCall() {
+        return direct.compute(42);
+    }
+
+    @Benchmark
+    public long passThroughProxyCall() {
+        return passThroughProxy.compute(42);
+    }
+
+    @Benchmark
+    public long latencyTrackedCall() {
+        return trackedProxy.compute(42);
+    }
+
+    @LatencyTracked
+    public static class TrackedService {
+
+        public long compute(long value) {
+            return value * 31 + 7;
+        }
+    }
+}
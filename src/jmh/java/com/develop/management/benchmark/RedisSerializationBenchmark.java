@@ -0,0 +1,63 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.cache.CacheValueSerializer;
+import com.develop.management.dto.spaceship.PageResponseDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Value serializer of the Redis cache tier applied to cached list pages: {@code json} is the format the cache
+ * wrote before, {@code binary} the compact one without and {@code binary-lz4} with compression. Encoded sizes are
+ * printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    @Param({"json", "binary", "binary-lz4"})
+    private String format;
+
+    private CacheValueSerializer serializer;
+    private PageResponseDto<SpaceshipDto> page;
+    private byte[] serializedPage;
+
+    @Setup
+    public void setUp() {
+        serializer = switch (format) {
+            case "json" -> new CacheValueSerializer(CacheValueSerializer.Format.JSON, 0);
+            case "binary" -> new CacheValueSerializer(CacheValueSerializer.Format.BINARY, 0);
+            default -> new CacheValueSerializer(CacheValueSerializer.Format.BINARY, 1024);
+        };
+        page = BenchmarkData.page(pageSize);
+        serializedPage = serializer.serialize(page);
+        System.out.printf("%n%s page of %d: %d bytes%n", format, pageSize, serializedPage.length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserializePage() {
+        return serializer.deserialize(serializedPage);
+    }
+
+    @Benchmark
+    public Object roundTripPage() {
+        return serializer.deserialize(serializer.serialize(page));
+    }
+}
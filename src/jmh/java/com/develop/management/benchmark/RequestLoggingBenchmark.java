@@ -0,0 +1,132 @@
+package com.develop.management.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.develop.management.dto.spaceship.PageResponseDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one {@code GET /api/spaceships} call. {@code payloadLogging} is the controller before it logged
+ * summaries only: the whole page rendered through a synchronous pattern appender. Output goes to a null stream,
+ * so real console or file I/O would widen the gap further.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private PageResponseDto<SpaceshipDto> page;
+    private LoggerContext syncPatternContext;
+    private LoggerContext asyncJsonContext;
+    private Logger syncPatternLogger;
+    private Logger asyncJsonLogger;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.page(pageSize);
+
+        syncPatternContext = loggerContext();
+        PatternLayoutEncoder patternEncoder = new PatternLayoutEncoder();
+        patternEncoder.setPattern(PATTERN);
+        syncPatternLogger = logger(syncPatternContext, nullStreamAppender(syncPatternContext, patternEncoder));
+
+        asyncJsonContext = loggerContext();
+        JsonEncoder jsonEncoder = new JsonEncoder();
+        jsonEncoder.setWithFormattedMessage(true);
+        jsonEncoder.setWithMessage(false);
+        jsonEncoder.setWithArguments(false);
+        AsyncAppender asyncAppender = new AsyncAppender();
+        asyncAppender.setContext(asyncJsonContext);
+        asyncAppender.setQueueSize(8192);
+        asyncAppender.setDiscardingThreshold(0);
+        asyncAppender.setNeverBlock(true);
+        asyncAppender.addAppender(nullStreamAppender(asyncJsonContext, jsonEncoder));
+        asyncAppender.start();
+        asyncJsonLogger = logger(asyncJsonContext, asyncAppender);
+    }
+
+    @TearDown
+    public void tearDown() {
+        syncPatternContext.stop();
+        asyncJsonContext.stop();
+    }
+
+    @Benchmark
+    public void payloadLogging() {
+        syncPatternLogger.info("Retrieved spaceships: {}", page.getContent());
+    }
+
+    @Benchmark
+    public void summaryLogging() {
+        long startNanos = System.nanoTime();
+        syncPatternLogger.atInfo().setMessage("Retrieved spaceships")
+                .addKeyValue("endpoint", "getAllSpaceships")
+                .addKeyValue("count", page.getContent().size())
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .log();
+    }
+
+    /** What the controller does now with the default configuration. */
+    @Benchmark
+    public void asyncJsonSummaryLogging() {
+        long startNanos = System.nanoTime();
+        asyncJsonLogger.atInfo().setMessage("Retrieved spaceships")
+                .addKeyValue("endpoint", "getAllSpaceships")
+                .addKeyValue("count", page.getContent().size())
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .log();
+    }
+
+    private static LoggerContext loggerContext() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        return context;
+    }
+
+    private static Logger logger(LoggerContext context, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger("com.develop.management.controller.SpaceshipController");
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private static OutputStreamAppender<ILoggingEvent> nullStreamAppender(LoggerContext context,
+                                                                           Encoder<ILoggingEvent> encoder) {
+        encoder.setContext(context);
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+}
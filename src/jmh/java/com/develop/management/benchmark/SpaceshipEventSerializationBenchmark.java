@@ -0,0 +1,104 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.msgbrokers.serialization.SpaceshipEventAvroSerializer;
+import com.develop.management.msgbrokers.serialization.SpaceshipEventDeserializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of spaceship events: the outbox payload written inside the service transaction
+ * and the Kafka value serializer used by the relay, against the Avro encoding selected with
+ * {@code kafka.serialization.format=avro}. Bytes per event of both Kafka encodings are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpaceshipEventSerializationBenchmark {
+
+    private static final String TOPIC = "spaceship-events";
+
+    private ObjectMapper objectMapper;
+    private JsonSerializer<SpaceshipEventDto> kafkaSerializer;
+    private SpaceshipEventAvroSerializer avroSerializer;
+    private SpaceshipEventDeserializer kafkaDeserializer;
+    private SpaceshipEventDto event;
+    private String payload;
+    private Header[] jsonTypeHeaders;
+    private byte[] jsonValue;
+    private byte[] avroValue;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = BenchmarkData.applicationObjectMapper();
+        kafkaSerializer = new JsonSerializer<>();
+        event = BenchmarkData.event();
+        payload = objectMapper.writeValueAsString(event);
+
+        avroSerializer = new SpaceshipEventAvroSerializer();
+        kafkaDeserializer = new SpaceshipEventDeserializer();
+        kafkaDeserializer.configure(Map.of("spring.json.trusted.packages", "com.develop.management.dto.spaceship"), false);
+        RecordHeaders jsonHeaders = new RecordHeaders();
+        jsonValue = kafkaSerializer.serialize(TOPIC, jsonHeaders, event);
+        jsonTypeHeaders = jsonHeaders.toArray();
+        avroValue = avroSerializer.serialize(TOPIC, event);
+
+        int typeHeaderBytes = 0;
+        for (Header header : jsonTypeHeaders) {
+            typeHeaderBytes += header.key().length() + header.value().length;
+        }
+        System.out.printf("%nBytes per event: json %d (+%d in type headers), avro %d%n",
+                jsonValue.length, typeHeaderBytes, avroValue.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        kafkaSerializer.close();
+        kafkaDeserializer.close();
+    }
+
+    @Benchmark
+    public String writeOutboxPayload() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public SpaceshipEventDto readOutboxPayload() throws JsonProcessingException {
+        return objectMapper.readValue(payload, SpaceshipEventDto.class);
+    }
+
+    @Benchmark
+    public byte[] kafkaValueSerializer() {
+        return kafkaSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] kafkaAvroSerializer() {
+        return avroSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public Object kafkaJsonDeserializer() {
+        // Each record brings its own headers, and JsonDeserializer removes the type headers it has read
+        return kafkaDeserializer.deserialize(TOPIC, new RecordHeaders(jsonTypeHeaders), jsonValue);
+    }
+
+    @Benchmark
+    public Object kafkaAvroDeserializer() {
+        return kafkaDeserializer.deserialize(TOPIC, avroValue);
+    }
+}
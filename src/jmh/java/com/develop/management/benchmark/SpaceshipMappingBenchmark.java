@@ -0,0 +1,91 @@
+package com.develop.management.benchmark;
+
+import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.mapper.SpaceshipMapper;
+import com.develop.management.model.Spaceship;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion for a single ship and for a whole page: the generated {@link SpaceshipMapper}
+ * against the {@code ObjectMapper.convertValue} calls it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SpaceshipMappingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private SpaceshipMapper spaceshipMapper;
+    private Spaceship spaceship;
+    private CreateSpaceshipRequestDto createRequest;
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"20", "1000"})
+        private int pageSize;
+
+        private List<Spaceship> page;
+
+        @Setup
+        public void setUp() {
+            page = BenchmarkData.spaceships(pageSize);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkData.applicationObjectMapper();
+        spaceshipMapper = Mappers.getMapper(SpaceshipMapper.class);
+        spaceship = BenchmarkData.spaceship(1L);
+        createRequest = BenchmarkData.createRequest();
+    }
+
+    @Benchmark
+    public SpaceshipDto convertValueToDto() {
+        return objectMapper.convertValue(spaceship, SpaceshipDto.class);
+    }
+
+    @Benchmark
+    public Spaceship convertValueToEntity() {
+        return objectMapper.convertValue(createRequest, Spaceship.class);
+    }
+
+    @Benchmark
+    public List<SpaceshipDto> convertValuePageToDto(PageState state) {
+        List<SpaceshipDto> content = new ArrayList<>(state.page.size());
+        for (Spaceship ship : state.page) {
+            content.add(objectMapper.convertValue(ship, SpaceshipDto.class));
+        }
+        return content;
+    }
+
+    @Benchmark
+    public SpaceshipDto mapperToDto() {
+        return spaceshipMapper.toDto(spaceship);
+    }
+
+    @Benchmark
+    public Spaceship mapperToEntity() {
+        return spaceshipMapper.toEntity(createRequest);
+    }
+
+    @Benchmark
+    public List<SpaceshipDto> mapperPageToDto(PageState state) {
+        return spaceshipMapper.toDtos(state.page);
+    }
+}
@@ -0,0 +1,140 @@
+package com.develop.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Opens {@code load.subscribers} idle connections to {@code /api/spaceships/stream} on a running instance and
+ * reports how much heap they retain per connection, measured after a full GC through {@code /api/admin/feed}.
+ * Results are appended to {@code target/load-test-results.jsonl} like the throughput load test.
+ */
+public final class FeedSubscriberLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_CONNECTS_IN_FLIGHT = 200;
+
+    private FeedSubscriberLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.url", "http://localhost:8080");
+        String label = System.getProperty("load.label", "unlabelled");
+        int subscribers = Integer.getInteger("load.subscribers", 5000);
+        Duration settle = Duration.parse("PT" + System.getProperty("load.settle", "10s"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = login(client, baseUrl,
+                System.getProperty("load.email", "admin@gmail.com"),
+                System.getProperty("load.password", "11111111"));
+
+        JsonNode before = feedStatistics(client, baseUrl, token);
+        System.out.printf("Opening %d feed subscribers against %s%n", subscribers, baseUrl);
+        List<InputStream> streams = new ArrayList<>(subscribers);
+        int failed = open(client, baseUrl, token, subscribers, streams);
+        Thread.sleep(settle.toMillis());
+        JsonNode after = feedStatistics(client, baseUrl, token);
+
+        int connected = after.get("subscribers").asInt() - before.get("subscribers").asInt();
+        long heapDelta = after.get("heapUsedBytes").asLong() - before.get("heapUsedBytes").asLong();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", label);
+        summary.put("test", "feed-subscribers");
+        summary.put("requestedSubscribers", subscribers);
+        summary.put("connectedSubscribers", connected);
+        summary.put("failedConnections", failed);
+        summary.put("heapDeltaBytes", heapDelta);
+        summary.put("heapBytesPerSubscriber", connected > 0 ? heapDelta / connected : 0);
+
+        String line = OBJECT_MAPPER.writeValueAsString(summary);
+        System.out.println(line);
+        Path output = Path.of("target", "load-test-results.jsonl");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        for (InputStream stream : streams) {
+            stream.close();
+        }
+    }
+
+    private static int open(HttpClient client, String baseUrl, String token, int subscribers, List<InputStream> streams)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/spaceships/stream"))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        Semaphore inFlight = new Semaphore(MAX_CONNECTS_IN_FLIGHT);
+        List<CompletableFuture<HttpResponse<InputStream>>> responses = new ArrayList<>(subscribers);
+        for (int i = 0; i < subscribers; i++) {
+            inFlight.acquire();
+            // Completes once the response headers arrive; the body stays open and unread
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                    .whenComplete((response, e) -> inFlight.release()));
+        }
+        int failed = 0;
+        for (CompletableFuture<HttpResponse<InputStream>> response : responses) {
+            try {
+                HttpResponse<InputStream> opened = response.join();
+                if (opened.statusCode() == 200) {
+                    streams.add(opened.body());
+                } else {
+                    failed++;
+                }
+            } catch (RuntimeException e) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private static JsonNode feedStatistics(HttpClient client, String baseUrl, String token)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/feed?gc=true"))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Feed statistics failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return OBJECT_MAPPER.readTree(response.body());
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email, String password)
+            throws IOException, InterruptedException {
+        String body = OBJECT_MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+    }
+}
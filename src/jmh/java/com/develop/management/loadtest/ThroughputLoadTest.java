@@ -0,0 +1,169 @@
+package com.develop.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load against a running instance: {@code load.concurrency} clients send requests back to back
+ * for {@code load.duration} after a warm-up, then throughput and latency percentiles are printed and appended
+ * to {@code target/load-test-results.jsonl}. Run it once per threading mode with a different {@code load.label}
+ * to compare them.
+ */
+public final class ThroughputLoadTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final List<String> DEFAULT_PATHS = List.of(
+            "/api/spaceships?page={page}&size=20",
+            "/api/spaceships/{id}",
+            "/api/spaceships/search?name={name}&page=0&size=20",
+            "/api/spaceships/cursor?size=50&sort=name");
+    private static final List<String> NAMES = List.of("Falcon", "Enterprise", "Star", "Destroyer", "Voyager", "Ship");
+
+    private ThroughputLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("load.url", "http://localhost:8080");
+        String label = System.getProperty("load.label", "unlabelled");
+        int concurrency = Integer.getInteger("load.concurrency", 200);
+        Duration warmup = Duration.parse("PT" + System.getProperty("load.warmup", "10s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "30s"));
+        int maxId = Integer.getInteger("load.max-id", 1000);
+        List<String> paths = System.getProperty("load.paths") == null
+                ? DEFAULT_PATHS
+                : Arrays.asList(System.getProperty("load.paths").split(","));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = login(client, baseUrl,
+                System.getProperty("load.email", "user@gmail.com"),
+                System.getProperty("load.password", "11111111"));
+
+        System.out.printf("Warming up %s for %s with %d clients%n", label, warmup, concurrency);
+        run(client, baseUrl, token, paths, maxId, concurrency, warmup);
+        System.out.printf("Measuring %s for %s%n", label, duration);
+        Result result = run(client, baseUrl, token, paths, maxId, concurrency, duration);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("label", label);
+        summary.put("concurrency", concurrency);
+        summary.put("durationSeconds", duration.toSeconds());
+        summary.put("requests", result.requests());
+        summary.put("errors", result.errors());
+        summary.put("throughputPerSecond", result.requests() / (double) duration.toSeconds());
+        summary.put("p50Ms", result.percentileMs(0.50));
+        summary.put("p99Ms", result.percentileMs(0.99));
+        summary.put("maxMs", result.percentileMs(1.0));
+
+        String line = OBJECT_MAPPER.writeValueAsString(summary);
+        System.out.println(line);
+        Path output = Path.of("target", "load-test-results.jsonl");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static Result run(HttpClient client, String baseUrl, String token, List<String> paths, int maxId,
+                              int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        LongAdder errors = new LongAdder();
+        Queue<long[]> latenciesPerClient = new ConcurrentLinkedQueue<>();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                long[][] latencies = {new long[1024]};
+                int[] count = {0};
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        if (!send(client, baseUrl, token, paths, maxId)) {
+                            errors.increment();
+                        }
+                        if (count[0] == latencies[0].length) {
+                            latencies[0] = Arrays.copyOf(latencies[0], count[0] * 2);
+                        }
+                        latencies[0][count[0]++] = System.nanoTime() - start;
+                    }
+                    latenciesPerClient.add(Arrays.copyOf(latencies[0], count[0]));
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        }
+        long[] all = latenciesPerClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.sum());
+    }
+
+    private static boolean send(HttpClient client, String baseUrl, String token, List<String> paths, int maxId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = paths.get(random.nextInt(paths.size()))
+                .replace("{page}", String.valueOf(random.nextInt(50)))
+                .replace("{id}", String.valueOf(1 + random.nextInt(maxId)))
+                .replace("{name}", NAMES.get(random.nextInt(NAMES.size())));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 500;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String login(HttpClient client, String baseUrl, String email, String password)
+            throws IOException, InterruptedException {
+        String body = OBJECT_MAPPER.writeValueAsString(Map.of("email", email, "password", password));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return OBJECT_MAPPER.readTree(response.body()).get("token").asText();
+    }
+
+    private record Result(long[] sortedLatencies, long errors) {
+
+        long requests() {
+            return sortedLatencies.length;
+        }
+
+        double percentileMs(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
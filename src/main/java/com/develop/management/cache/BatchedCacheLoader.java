@@ -0,0 +1,196 @@
+package com.develop.management.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through loader for a {@link TwoLevelCache} that batches misses, DataLoader style. Keys missing from the
+ * local tier are collected for {@code window} or until {@code maxBatchSize} keys are waiting. The batch is then
+ * looked up in Redis with one multi-get, the rest is loaded with one call of {@code bulkLoader}, and the results are
+ * written back to both tiers with one pipelined write. Callers waiting for a key that is already part of a collecting
+ * or running batch share its result.
+ *
+ * @param <K> cache key type
+ * @param <V> value type; keys the bulk loader does not return are cached as {@code null}
+ */
+@Slf4j
+public class BatchedCacheLoader<K, V> implements AutoCloseable {
+
+    private final TwoLevelCache cache;
+    private final Function<Set<K>, Map<K, V>> bulkLoader;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService timer;
+    private final ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> collecting = new LinkedHashMap<>();
+    private boolean flushScheduled;
+    private final ConcurrentMap<K, CompletableFuture<V>> running = new ConcurrentHashMap<>();
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedKeys = new LongAdder();
+
+    /**
+     * @param bulkLoader loads the values of the given keys; keys that do not exist are left out of the result
+     */
+    public BatchedCacheLoader(TwoLevelCache cache, Function<Set<K>, Map<K, V>> bulkLoader, Duration window,
+                              int maxBatchSize) {
+        this.cache = cache;
+        this.bulkLoader = bulkLoader;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batched-loader-" + cache.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public V load(K key) {
+        Cache.ValueWrapper localValue = cache.getLocal(key);
+        if (localValue != null) {
+            return cast(localValue.get());
+        }
+        return await(enqueue(Set.of(key)).get(key));
+    }
+
+    /**
+     * @return the value of every key in iteration order, {@code null} for keys that do not exist
+     */
+    public Map<K, V> loadAll(Collection<K> keys) {
+        Map<K, V> values = new LinkedHashMap<>();
+        Set<K> misses = new LinkedHashSet<>();
+        for (K key : keys) {
+            Cache.ValueWrapper localValue = cache.getLocal(key);
+            if (localValue != null) {
+                values.put(key, cast(localValue.get()));
+            } else {
+                values.put(key, null);
+                misses.add(key);
+            }
+        }
+        if (!misses.isEmpty()) {
+            enqueue(misses).forEach((key, future) -> values.put(key, await(future)));
+        }
+        return values;
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getBatchedKeys() {
+        return batchedKeys.sum();
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        batchExecutor.close();
+    }
+
+    private Map<K, CompletableFuture<V>> enqueue(Set<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        synchronized (lock) {
+            for (K key : keys) {
+                CompletableFuture<V> future = running.get(key);
+                if (future == null) {
+                    future = collecting.get(key);
+                }
+                if (future != null) {
+                    cache.getStatistics().coalescedLoad();
+                } else {
+                    future = new CompletableFuture<>();
+                    collecting.put(key, future);
+                    if (collecting.size() >= maxBatchSize) {
+                        dispatch();
+                    }
+                }
+                futures.put(key, future);
+            }
+            if (!collecting.isEmpty() && !flushScheduled) {
+                flushScheduled = true;
+                timer.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        return futures;
+    }
+
+    private void flush() {
+        synchronized (lock) {
+            flushScheduled = false;
+            if (!collecting.isEmpty()) {
+                dispatch();
+            }
+        }
+    }
+
+    // Called with the lock held
+    private void dispatch() {
+        Map<K, CompletableFuture<V>> batch = collecting;
+        collecting = new LinkedHashMap<>();
+        running.putAll(batch);
+        batchExecutor.execute(() -> run(batch));
+    }
+
+    private void run(Map<K, CompletableFuture<V>> batch) {
+        batches.increment();
+        batchedKeys.add(batch.size());
+        try {
+            Map<K, Cache.ValueWrapper> remoteValues = cache.getAllRemote(batch.keySet());
+            Set<K> misses = new LinkedHashSet<>(batch.keySet());
+            misses.removeAll(remoteValues.keySet());
+
+            Map<K, V> loadedValues = new LinkedHashMap<>();
+            if (!misses.isEmpty()) {
+                cache.getStatistics().loaded(misses.size());
+                Map<K, V> loaded = bulkLoader.apply(misses);
+                misses.forEach(key -> loadedValues.put(key, loaded.get(key)));
+                cache.putAll(loadedValues);
+            }
+
+            remoteValues.forEach((key, value) -> batch.get(key).complete(cast(value.get())));
+            loadedValues.forEach((key, value) -> batch.get(key).complete(value));
+        } catch (RuntimeException e) {
+            log.debug("Batch of {} keys for cache {} failed: {}", batch.size(), cache.getName(), e.getMessage());
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        } finally {
+            batch.forEach(running::remove);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V cast(Object value) {
+        return (V) value;
+    }
+}
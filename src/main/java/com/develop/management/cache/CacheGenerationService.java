@@ -0,0 +1,107 @@
+package com.develop.management.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation counter embedded in list and search cache keys. A write bumps the counter with a single INCR,
+ * which makes every previously cached page unreachable; the stale entries then expire through their TTL.
+ */
+@Slf4j
+@Component
+public class CacheGenerationService implements MessageListener {
+
+    private final AtomicLong generation = new AtomicLong(-1);
+    private volatile long lastSyncNanos;
+
+    private final StringRedisTemplate redisTemplate;
+    private final String generationKey;
+    private final String channel;
+    private final long syncIntervalNanos;
+
+    public CacheGenerationService(StringRedisTemplate redisTemplate,
+                                  @Value("${cache.generation.key:spaceships:generation}") String generationKey,
+                                  @Value("${cache.generation.channel:spaceships:cache-generation}") String channel,
+                                  @Value("${cache.generation.sync-interval:5s}") Duration syncInterval) {
+        this.redisTemplate = redisTemplate;
+        this.generationKey = generationKey;
+        this.channel = channel;
+        this.syncIntervalNanos = syncInterval.toNanos();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public long current() {
+        if (generation.get() < 0 || System.nanoTime() - lastSyncNanos > syncIntervalNanos) {
+            sync();
+        }
+        return generation.get();
+    }
+
+    /**
+     * Bumps the generation once the surrounding transaction commits, so readers never cache
+     * uncommitted state under the new generation.
+     */
+    public void advance() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment();
+                }
+            });
+        } else {
+            increment();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            observe(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache generation message: {}", e.getMessage());
+        }
+    }
+
+    private void increment() {
+        try {
+            Long next = redisTemplate.opsForValue().increment(generationKey);
+            if (next != null) {
+                observe(next);
+                redisTemplate.convertAndSend(channel, String.valueOf(next));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to advance cache generation, cached pages stay valid until TTL: {}", e.getMessage());
+        }
+    }
+
+    private void sync() {
+        try {
+            String stored = redisTemplate.opsForValue().get(generationKey);
+            // Plain set rather than max: a flushed Redis restarts the counter and local state must follow it
+            generation.set(stored == null ? 0 : Long.parseLong(stored));
+            lastSyncNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            log.warn("Failed to read cache generation, using last known value: {}", e.getMessage());
+            observe(0);
+        }
+    }
+
+    private void observe(long value) {
+        generation.accumulateAndGet(value, Math::max);
+        lastSyncNanos = System.nanoTime();
+    }
+}
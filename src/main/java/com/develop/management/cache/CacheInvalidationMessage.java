@@ -0,0 +1,10 @@
+package com.develop.management.cache;
+
+import java.util.List;
+
+/**
+ * Broadcast over Redis pub/sub when a node evicts entries, so the other nodes drop them from their local tier.
+ * {@code null} keys mean the whole cache was cleared.
+ */
+public record CacheInvalidationMessage(String nodeId, String cacheName, List<String> keys) {
+}
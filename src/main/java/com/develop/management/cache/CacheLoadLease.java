@@ -0,0 +1,29 @@
+package com.develop.management.cache;
+
+/**
+ * Cross-node guard around loading a missing cache entry: the node holding the lease for a key loads it, the others
+ * wait for the value to show up in the shared tier.
+ */
+public interface CacheLoadLease {
+
+    /**
+     * Lease for single-node setups, always granted.
+     */
+    CacheLoadLease LOCAL = new CacheLoadLease() {
+        @Override
+        public boolean tryAcquire(String cacheName, String key) {
+            return true;
+        }
+
+        @Override
+        public void release(String cacheName, String key) {
+        }
+    };
+
+    /**
+     * @return whether this node may load the key now
+     */
+    boolean tryAcquire(String cacheName, String key);
+
+    void release(String cacheName, String key);
+}
@@ -0,0 +1,50 @@
+package com.develop.management.cache;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves the {@link CachePolicy} of a cache from {@code cache.policies.<cache>.*}. Settings a cache does not
+ * define fall back to {@code cache.policies.default.*}, so caches added later get a policy without extra code.
+ */
+public class CachePolicies {
+
+    static final String POLICY_PREFIX = "cache.policies.";
+    static final String DEFAULT_POLICY = "default";
+
+    private static final CachePolicy BUILT_IN_DEFAULTS =
+            new CachePolicy(Duration.ofHours(1), Duration.ZERO, true, Duration.ofSeconds(30), 10_000, Duration.ofSeconds(60));
+
+    private final ConcurrentMap<String, CachePolicy> policies = new ConcurrentHashMap<>();
+    private final Environment environment;
+    private final CachePolicy defaults;
+
+    public CachePolicies(Environment environment) {
+        this.environment = environment;
+        this.defaults = resolve(DEFAULT_POLICY, BUILT_IN_DEFAULTS);
+    }
+
+    public CachePolicy policy(String cacheName) {
+        return policies.computeIfAbsent(cacheName, name -> resolve(name, defaults));
+    }
+
+    private CachePolicy resolve(String name, CachePolicy fallback) {
+        String prefix = POLICY_PREFIX + name + ".";
+        return new CachePolicy(
+                duration(prefix + "ttl", fallback.ttl()),
+                duration(prefix + "ttl-jitter", fallback.ttlJitter()),
+                environment.getProperty(prefix + "cache-null-values", Boolean.class, fallback.cacheNullValues()),
+                duration(prefix + "negative-ttl", fallback.negativeTtl()),
+                environment.getProperty(prefix + "local-max-size", Long.class, fallback.localMaxSize()),
+                duration(prefix + "local-ttl", fallback.localTtl()));
+    }
+
+    private Duration duration(String property, Duration fallback) {
+        String value = environment.getProperty(property);
+        return value != null ? DurationStyle.detectAndParse(value) : fallback;
+    }
+}
@@ -0,0 +1,31 @@
+package com.develop.management.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Expiry and size settings of one cache. {@code ttl} and {@code ttlJitter} apply to the Redis tier,
+ * {@code localMaxSize} and {@code localTtl} to the Caffeine tier. A zero {@code ttl} keeps Redis entries until evicted.
+ * Cached {@code null} results ("not found") live {@code negativeTtl} in both tiers instead.
+ */
+public record CachePolicy(Duration ttl, Duration ttlJitter, boolean cacheNullValues, Duration negativeTtl,
+                          long localMaxSize, Duration localTtl) {
+
+    /**
+     * TTL of a single Redis entry: the configured TTL plus a random share of the jitter, so entries written in the
+     * same burst do not all expire, and get reloaded, in the same second.
+     */
+    public Duration nextTtl() {
+        if (ttl.isZero() || ttlJitter.isZero() || ttlJitter.isNegative()) {
+            return ttl;
+        }
+        return ttl.plusMillis(ThreadLocalRandom.current().nextLong(ttlJitter.toMillis() + 1));
+    }
+
+    /**
+     * Local lifetime of a cached {@code null}, never longer than the one of regular local entries.
+     */
+    public Duration localNegativeTtl() {
+        return negativeTtl.compareTo(localTtl) < 0 ? negativeTtl : localTtl;
+    }
+}
@@ -0,0 +1,104 @@
+package com.develop.management.cache;
+
+import com.develop.management.dto.cache.CacheStatisticsDto;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheTierStatistics {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void remoteMiss() {
+        remoteMisses.increment();
+    }
+
+    void put() {
+        puts.increment();
+    }
+
+    void evicted(int count) {
+        evictions.add(count);
+    }
+
+    void load() {
+        loads.increment();
+    }
+
+    void loaded(int count) {
+        loads.add(count);
+    }
+
+    void coalescedLoad() {
+        coalescedLoads.increment();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    public long getPuts() {
+        return puts.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Misses this node loaded from the database.
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * Misses answered by a load that was already running, on this node or another one.
+     */
+    public long getCoalescedLoads() {
+        return coalescedLoads.sum();
+    }
+
+    public CacheStatisticsDto snapshot(String cacheName, long localSize) {
+        return CacheStatisticsDto.builder()
+                .cacheName(cacheName)
+                .localSize(localSize)
+                .localHits(getLocalHits())
+                .localMisses(getLocalMisses())
+                .remoteHits(getRemoteHits())
+                .remoteMisses(getRemoteMisses())
+                .loads(getLoads())
+                .coalescedLoads(getCoalescedLoads())
+                .build();
+    }
+}
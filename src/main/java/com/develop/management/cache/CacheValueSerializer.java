@@ -0,0 +1,113 @@
+package com.develop.management.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+
+/**
+ * Redis value serializer of the cache tier. Entries are written either as before, through
+ * {@link GenericJackson2JsonRedisSerializer}, or in the compact {@link SpaceshipCacheCodec} format behind a
+ * {@code [0x00, version, flags]} header, LZ4-compressed from {@code compressionThreshold} bytes on. Reads accept
+ * both, so nodes on either setting share one Redis during a rolling deploy. An entry in a format version this
+ * node does not know yet is read as a cache miss.
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    public enum Format { JSON, BINARY }
+
+    static final byte MAGIC_BYTE = 0;
+    static final byte FORMAT_VERSION = 1;
+    static final int HEADER_LENGTH = 3;
+    private static final byte LZ4_FLAG = 1;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final Format writeFormat;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold encoded size from which binary entries are compressed, 0 or less to never compress
+     */
+    public CacheValueSerializer(Format writeFormat, int compressionThreshold) {
+        this.writeFormat = writeFormat;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null || writeFormat == Format.JSON || !SpaceshipCacheCodec.supports(value)) {
+            return jsonSerializer.serialize(value);
+        }
+        SpaceshipCacheCodec.Writer out = new SpaceshipCacheCodec.Writer(256, HEADER_LENGTH);
+        SpaceshipCacheCodec.write(out, value);
+        byte[] encoded = out.buffer();
+        int length = out.position();
+        encoded[0] = MAGIC_BYTE;
+        encoded[1] = FORMAT_VERSION;
+
+        int bodyLength = length - HEADER_LENGTH;
+        if (compressionThreshold > 0 && bodyLength >= compressionThreshold) {
+            byte[] compressed = compress(encoded, bodyLength);
+            if (compressed.length < length) {
+                return compressed;
+            }
+        }
+        encoded[2] = 0;
+        return Arrays.copyOf(encoded, length);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC_BYTE) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated cache entry of " + bytes.length + " bytes");
+        }
+        if (bytes[1] != FORMAT_VERSION) {
+            log.debug("Skipping cache entry in unknown format version {}", bytes[1]);
+            return null;
+        }
+        try {
+            if ((bytes[2] & LZ4_FLAG) != 0) {
+                return SpaceshipCacheCodec.read(new SpaceshipCacheCodec.Reader(decompress(bytes), 0));
+            }
+            return SpaceshipCacheCodec.read(new SpaceshipCacheCodec.Reader(bytes, HEADER_LENGTH));
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to read binary cache entry", e);
+        }
+    }
+
+    // Layout after the header: the uncompressed body length as 4 bytes, then the LZ4 block
+    private static byte[] compress(byte[] encoded, int bodyLength) {
+        byte[] compressed = new byte[HEADER_LENGTH + 4 + COMPRESSOR.maxCompressedLength(bodyLength)];
+        compressed[0] = MAGIC_BYTE;
+        compressed[1] = FORMAT_VERSION;
+        compressed[2] = LZ4_FLAG;
+        compressed[3] = (byte) (bodyLength >>> 24);
+        compressed[4] = (byte) (bodyLength >>> 16);
+        compressed[5] = (byte) (bodyLength >>> 8);
+        compressed[6] = (byte) bodyLength;
+        int compressedLength = COMPRESSOR.compress(encoded, HEADER_LENGTH, bodyLength, compressed, HEADER_LENGTH + 4);
+        return Arrays.copyOf(compressed, HEADER_LENGTH + 4 + compressedLength);
+    }
+
+    private static byte[] decompress(byte[] bytes) {
+        int bodyLength = ((bytes[3] & 0xFF) << 24) | ((bytes[4] & 0xFF) << 16) | ((bytes[5] & 0xFF) << 8) | (bytes[6] & 0xFF);
+        byte[] body = new byte[bodyLength];
+        DECOMPRESSOR.decompress(bytes, HEADER_LENGTH + 4, body, 0, bodyLength);
+        return body;
+    }
+}
@@ -0,0 +1,145 @@
+package com.develop.management.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generation counters embedded in the keys of cached page ID lists. Unlike the {@link CacheGenerationService},
+ * which every write advances, these only advance when the ids of a page can change: {@link #MEMBERS} on every
+ * create and delete, and per sort field on updates that change it. A page depends on {@link #MEMBERS} and on the
+ * fields of its sort, so an update of a spaceship's crew capacity leaves the pages sorted by name or id cached.
+ * The counters live in one Redis hash.
+ */
+@Slf4j
+@Component
+public class PageOrderGenerations implements MessageListener {
+
+    public static final String MEMBERS = "members";
+    /** Advanced by every update; pages sorted by a property that is not tracked on its own depend on it. */
+    public static final String ANY_FIELD = "*";
+    public static final Set<String> SORT_FIELDS = Set.of("name", "seriesOrMovie", "type", "crewCapacity");
+
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private volatile boolean synced;
+    private volatile long lastSyncNanos;
+
+    private final StringRedisTemplate redisTemplate;
+    private final String generationsKey;
+    private final String channel;
+    private final long syncIntervalNanos;
+
+    public PageOrderGenerations(StringRedisTemplate redisTemplate,
+                                @Value("${cache.page-order.key:spaceships:page-order-generations}") String generationsKey,
+                                @Value("${cache.page-order.channel:spaceships:page-order-generation}") String channel,
+                                @Value("${cache.generation.sync-interval:5s}") Duration syncInterval) {
+        this.redisTemplate = redisTemplate;
+        this.generationsKey = generationsKey;
+        this.channel = channel;
+        this.syncIntervalNanos = syncInterval.toNanos();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * @return a value that grows whenever the ids of a page with this sort may have changed
+     */
+    public long current(Sort sort) {
+        if (!synced || System.nanoTime() - lastSyncNanos > syncIntervalNanos) {
+            sync();
+        }
+        Set<String> dependencies = new LinkedHashSet<>();
+        dependencies.add(MEMBERS);
+        for (Sort.Order order : sort) {
+            if (!order.getProperty().equals("id")) {
+                dependencies.add(SORT_FIELDS.contains(order.getProperty()) ? order.getProperty() : ANY_FIELD);
+            }
+        }
+        // Every counter only grows, so the sum grows as soon as one of them does
+        long value = 0;
+        for (String dependency : dependencies) {
+            value += generations.getOrDefault(dependency, 0L);
+        }
+        return value;
+    }
+
+    /**
+     * Advances the given counters once the surrounding transaction commits.
+     */
+    public void advance(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        Set<String> advanced = Set.copyOf(names);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(advanced);
+                }
+            });
+        } else {
+            increment(advanced);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('=');
+        try {
+            observe(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("Ignoring malformed page order generation message: {}", body);
+        }
+    }
+
+    private void increment(Set<String> names) {
+        for (String name : names) {
+            try {
+                Long next = redisTemplate.opsForHash().increment(generationsKey, name, 1);
+                observe(name, next);
+                redisTemplate.convertAndSend(channel, name + "=" + next);
+            } catch (RuntimeException e) {
+                log.warn("Failed to advance page order generation {}, cached pages stay valid until TTL: {}",
+                        name, e.getMessage());
+            }
+        }
+    }
+
+    private void sync() {
+        try {
+            Map<String, Long> stored = new HashMap<>();
+            redisTemplate.opsForHash().entries(generationsKey)
+                    .forEach((name, value) -> stored.put(name.toString(), Long.parseLong(value.toString())));
+            // Plain set rather than max: a flushed Redis restarts the counters and local state must follow them
+            generations.keySet().retainAll(stored.keySet());
+            generations.putAll(stored);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read page order generations, using last known values: {}", e.getMessage());
+        }
+        synced = true;
+        lastSyncNanos = System.nanoTime();
+    }
+
+    private void observe(String name, long value) {
+        generations.merge(name, value, Math::max);
+    }
+}
@@ -0,0 +1,34 @@
+package com.develop.management.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+/**
+ * Creates every Redis cache on first use with the TTL, jitter and null-value settings of its {@link CachePolicy}.
+ */
+public class PolicyRedisCacheManager extends RedisCacheManager {
+
+    private final RedisCacheConfiguration baseConfiguration;
+    private final CachePolicies cachePolicies;
+
+    public PolicyRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration baseConfiguration,
+                                   CachePolicies cachePolicies) {
+        super(cacheWriter, baseConfiguration);
+        this.baseConfiguration = baseConfiguration;
+        this.cachePolicies = cachePolicies;
+    }
+
+    @Override
+    protected RedisCache getMissingCache(String name) {
+        CachePolicy policy = cachePolicies.policy(name);
+        RedisCacheConfiguration configuration = baseConfiguration.entryTtl((key, value) ->
+                value == null || value instanceof NullValue ? policy.negativeTtl() : policy.nextTtl());
+        if (!policy.cacheNullValues()) {
+            configuration = configuration.disableCachingNullValues();
+        }
+        return createRedisCache(name, configuration);
+    }
+}
@@ -0,0 +1,130 @@
+package com.develop.management.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link RemoteCacheBatch} of a {@link RedisCache}: one {@code MGET} for reads, and one pipeline of {@code SET PX}
+ * for writes, since {@code MSET} cannot give every entry its own TTL. Keys, values and TTLs follow the configuration
+ * of the cache, so entries are interchangeable with the ones {@link RedisCache} reads and writes.
+ */
+public class RedisCacheBatch implements RemoteCacheBatch {
+
+    // How RedisCache stores a cached null, whatever the value serializer
+    private static final byte[] BINARY_NULL_VALUE = RedisSerializer.java().serialize(NullValue.INSTANCE);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration configuration;
+    private final String keyPrefix;
+
+    public RedisCacheBatch(RedisConnectionFactory connectionFactory, RedisCache cache) {
+        this.connectionFactory = connectionFactory;
+        this.configuration = cache.getCacheConfiguration();
+        this.keyPrefix = configuration.usePrefix() ? configuration.getKeyPrefixFor(cache.getName()) : "";
+    }
+
+    @Override
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> cacheKeys = new ArrayList<>(keys);
+        byte[][] redisKeys = new byte[cacheKeys.size()][];
+        for (int i = 0; i < redisKeys.length; i++) {
+            redisKeys[i] = redisKey(cacheKeys.get(i));
+        }
+
+        List<byte[]> storedValues;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            storedValues = connection.stringCommands().mGet(redisKeys);
+        }
+        Map<Object, Object> values = new HashMap<>();
+        for (int i = 0; storedValues != null && i < storedValues.size(); i++) {
+            Object value = deserialize(storedValues.get(i));
+            if (value != null) {
+                values.put(cacheKeys.get(i), value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> values) {
+        set(values, RedisStringCommands.SetOption.upsert());
+    }
+
+    @Override
+    public Set<Object> putAllIfAbsent(Map<?, ?> values) {
+        List<Object> keys = new ArrayList<>(values.keySet());
+        List<Object> results = set(values, RedisStringCommands.SetOption.ifAbsent());
+        Set<Object> written = new HashSet<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                written.add(keys.get(i));
+            }
+        }
+        return written;
+    }
+
+    // One SET per entry in a single pipeline; returns the reply of each SET in iteration order
+    private List<Object> set(Map<?, ?> values, RedisStringCommands.SetOption option) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                values.forEach((key, value) -> connection.stringCommands().set(redisKey(key), serialize(value),
+                        expiration(configuration.getTtlFunction().getTimeToLive(key, value)), option));
+            } catch (RuntimeException e) {
+                connection.closePipeline();
+                throw e;
+            }
+            return connection.closePipeline();
+        }
+    }
+
+    // Same string form as RedisCache and the local tier use for the simple keys of these caches
+    private byte[] redisKey(Object key) {
+        return ByteUtils.getBytes(configuration.getKeySerializationPair().write(keyPrefix + TwoLevelCache.toLocalKey(key)));
+    }
+
+    private byte[] serialize(Object value) {
+        if (value == null || value instanceof NullValue) {
+            return BINARY_NULL_VALUE;
+        }
+        return ByteUtils.getBytes(configuration.getValueSerializationPair().write(value));
+    }
+
+    private Object deserialize(byte[] storedValue) {
+        if (storedValue == null) {
+            return null;
+        }
+        if (Arrays.equals(storedValue, BINARY_NULL_VALUE)) {
+            return NullValue.INSTANCE;
+        }
+        return configuration.getValueSerializationPair().read(ByteBuffer.wrap(storedValue));
+    }
+
+    private static Expiration expiration(Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.isNegative() ? Expiration.persistent() : Expiration.from(ttl);
+    }
+}
@@ -0,0 +1,55 @@
+package com.develop.management.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@link CacheLoadLease} kept as a {@code SET NX PX} key in Redis. The lease expires by itself, so a node that dies
+ * while loading blocks the key for at most {@code leaseTtl}. If Redis cannot be reached the lease is granted: the
+ * load then only loses its cross-node coalescing.
+ */
+@Slf4j
+public class RedisCacheLoadLease implements CacheLoadLease {
+
+    // Only the holder removes the lease; after it expired it may already belong to another node
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId;
+    private final Duration leaseTtl;
+
+    public RedisCacheLoadLease(StringRedisTemplate redisTemplate, String nodeId, Duration leaseTtl) {
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeId;
+        this.leaseTtl = leaseTtl;
+    }
+
+    @Override
+    public boolean tryAcquire(String cacheName, String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(cacheName, key), nodeId, leaseTtl));
+        } catch (RuntimeException e) {
+            log.debug("Loading {}::{} without a lease: {}", cacheName, key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void release(String cacheName, String key) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), nodeId);
+        } catch (RuntimeException e) {
+            log.debug("Failed to release lease of {}::{}, it expires in {}: {}", cacheName, key, leaseTtl, e.getMessage());
+        }
+    }
+
+    static String leaseKey(String cacheName, String key) {
+        return "lease:" + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,68 @@
+package com.develop.management.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Multi-key access to the shared tier of a {@link TwoLevelCache}, in one round trip where the store allows it.
+ */
+public interface RemoteCacheBatch {
+
+    /**
+     * @return the values of the keys that are present, by key; a cached {@code null} comes back as {@link NullValue}
+     */
+    Map<Object, Object> getAll(Collection<?> keys);
+
+    /**
+     * Stores the values; a {@code null} value is stored as a cached {@code null}.
+     */
+    void putAll(Map<?, ?> values);
+
+    /**
+     * Stores the values of the keys that are not cached yet.
+     *
+     * @return the keys that were written
+     */
+    Set<Object> putAllIfAbsent(Map<?, ?> values);
+
+    /**
+     * Key-by-key fallback for caches without multi-key commands.
+     */
+    static RemoteCacheBatch iterating(Cache cache) {
+        return new RemoteCacheBatch() {
+            @Override
+            public Map<Object, Object> getAll(Collection<?> keys) {
+                Map<Object, Object> values = new HashMap<>();
+                for (Object key : keys) {
+                    Cache.ValueWrapper value = cache.get(key);
+                    if (value != null) {
+                        values.put(key, value.get() == null ? NullValue.INSTANCE : value.get());
+                    }
+                }
+                return values;
+            }
+
+            @Override
+            public void putAll(Map<?, ?> values) {
+                values.forEach(cache::put);
+            }
+
+            @Override
+            public Set<Object> putAllIfAbsent(Map<?, ?> values) {
+                Set<Object> written = new HashSet<>();
+                values.forEach((key, value) -> {
+                    if (cache.putIfAbsent(key, value) == null) {
+                        written.add(key);
+                    }
+                });
+                return written;
+            }
+        };
+    }
+}
@@ -0,0 +1,262 @@
+package com.develop.management.cache;
+
+import com.develop.management.dto.spaceship.CursorPageResponseDto;
+import com.develop.management.dto.spaceship.PageResponseDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.SpaceshipIdPageDto;
+import com.develop.management.dto.spaceship.SpaceshipsDataDto;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Field-by-field binary encoding of the values the spaceship caches hold. Integers are varints and strings are
+ * length-prefixed UTF-8, so a cached spaceship costs its text plus a handful of bytes instead of a JSON object with
+ * field names and {@code @class} hints. Types it does not know are left to the JSON serializer.
+ */
+final class SpaceshipCacheCodec {
+
+    private static final byte NULL_VALUE = 1;
+    private static final byte SPACESHIP = 2;
+    private static final byte PAGE = 3;
+    private static final byte CURSOR_PAGE = 4;
+    private static final byte SPACESHIPS_DATA = 5;
+    private static final byte ID_PAGE = 6;
+
+    private SpaceshipCacheCodec() {
+    }
+
+    static boolean supports(Object value) {
+        return switch (value) {
+            case NullValue ignored -> true;
+            case SpaceshipDto ignored -> true;
+            case PageResponseDto<?> page -> isSpaceshipList(page.getContent());
+            case CursorPageResponseDto<?> page -> isSpaceshipList(page.getContent());
+            case SpaceshipsDataDto data -> isSpaceshipList(data.getSpaceships());
+            case SpaceshipIdPageDto page -> page.getIds() != null && !page.getIds().contains(null);
+            default -> false;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static void write(Writer out, Object value) {
+        switch (value) {
+            case NullValue ignored -> out.writeByte(NULL_VALUE);
+            case SpaceshipDto spaceship -> {
+                out.writeByte(SPACESHIP);
+                writeSpaceship(out, spaceship);
+            }
+            case PageResponseDto<?> page -> {
+                out.writeByte(PAGE);
+                writeSpaceships(out, (List<SpaceshipDto>) page.getContent());
+                out.writeVarLong(page.getPageNumber());
+                out.writeVarLong(page.getPageSize());
+                out.writeVarLong(page.getTotalElements());
+                out.writeVarLong(page.getTotalPages());
+            }
+            case CursorPageResponseDto<?> page -> {
+                out.writeByte(CURSOR_PAGE);
+                writeSpaceships(out, (List<SpaceshipDto>) page.getContent());
+                out.writeVarLong(page.getSize());
+                out.writeString(page.getNextCursor());
+            }
+            case SpaceshipsDataDto data -> {
+                out.writeByte(SPACESHIPS_DATA);
+                writeSpaceships(out, data.getSpaceships());
+            }
+            case SpaceshipIdPageDto page -> {
+                out.writeByte(ID_PAGE);
+                out.writeVarLong(page.getIds().size());
+                for (Long id : page.getIds()) {
+                    out.writeZigZag(id);
+                }
+                out.writeVarLong(page.getTotalElements());
+                out.writeVarLong(page.getTotalPages());
+            }
+            default -> throw new SerializationException("Unsupported cache value type " + value.getClass().getName());
+        }
+    }
+
+    static Object read(Reader in) {
+        byte type = in.readByte();
+        return switch (type) {
+            case NULL_VALUE -> NullValue.INSTANCE;
+            case SPACESHIP -> readSpaceship(in);
+            case PAGE -> new PageResponseDto<>(readSpaceships(in), (int) in.readVarLong(), (int) in.readVarLong(),
+                    in.readVarLong(), (int) in.readVarLong());
+            case CURSOR_PAGE -> new CursorPageResponseDto<>(readSpaceships(in), (int) in.readVarLong(), in.readString());
+            case SPACESHIPS_DATA -> new SpaceshipsDataDto(readSpaceships(in));
+            case ID_PAGE -> new SpaceshipIdPageDto(readIds(in), in.readVarLong(), (int) in.readVarLong());
+            default -> throw new SerializationException("Unknown cache value type " + type);
+        };
+    }
+
+    private static boolean isSpaceshipList(List<?> items) {
+        if (items == null) {
+            return true;
+        }
+        for (Object item : items) {
+            if (!(item instanceof SpaceshipDto)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeSpaceships(Writer out, List<SpaceshipDto> spaceships) {
+        // Count + 1, so that 0 keeps a null list apart from an empty one
+        out.writeVarLong(spaceships == null ? 0 : spaceships.size() + 1L);
+        if (spaceships != null) {
+            for (SpaceshipDto spaceship : spaceships) {
+                writeSpaceship(out, spaceship);
+            }
+        }
+    }
+
+    private static List<SpaceshipDto> readSpaceships(Reader in) {
+        int count = (int) in.readVarLong() - 1;
+        if (count < 0) {
+            return null;
+        }
+        List<SpaceshipDto> spaceships = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            spaceships.add(readSpaceship(in));
+        }
+        return spaceships;
+    }
+
+    private static List<Long> readIds(Reader in) {
+        int count = (int) in.readVarLong();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(in.readZigZag());
+        }
+        return ids;
+    }
+
+    private static void writeSpaceship(Writer out, SpaceshipDto spaceship) {
+        out.writeNullableLong(spaceship.getId());
+        out.writeString(spaceship.getName());
+        out.writeString(spaceship.getSeriesOrMovie());
+        out.writeString(spaceship.getType());
+        out.writeZigZag(spaceship.getCrewCapacity());
+        out.writeVarLong(spaceship.getVersion());
+    }
+
+    private static SpaceshipDto readSpaceship(Reader in) {
+        return new SpaceshipDto(in.readNullableLong(), in.readString(), in.readString(), in.readString(),
+                (int) in.readZigZag(), in.readVarLong());
+    }
+
+    static final class Writer {
+
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity, int offset) {
+            this.buffer = new byte[Math.max(initialCapacity, offset + 16)];
+            this.position = offset;
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        int position() {
+            return position;
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeNullableLong(Long value) {
+            writeByte(value == null ? 0 : 1);
+            if (value != null) {
+                writeZigZag(value);
+            }
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+    }
+
+    static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int offset) {
+            this.buffer = buffer;
+            this.position = offset;
+        }
+
+        byte readByte() {
+            return buffer[position++];
+        }
+
+        long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        long readZigZag() {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        Long readNullableLong() {
+            return readByte() == 0 ? null : readZigZag();
+        }
+
+        String readString() {
+            int length = (int) readVarLong() - 1;
+            if (length < 0) {
+                return null;
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
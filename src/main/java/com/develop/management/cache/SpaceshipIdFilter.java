@@ -0,0 +1,246 @@
+package com.develop.management.cache;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.repository.SpaceshipRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloom filter of live spaceship ids, so lookups of ids that never existed are answered without touching Redis
+ * or Postgres. It is rebuilt from the table at startup and periodically, and kept current in between from the
+ * CREATE and DELETE events every node receives.
+ * <p>
+ * Spaceship ids come from pooled per-node blocks, so another node may create an id below the highest one this
+ * node has seen, and its event arrives only after the outbox relay and Kafka. Ids within {@code recent-id-window}
+ * of the highest id therefore always pass and are answered by the cache and database. Only a node that stayed idle
+ * while the others handed out more than the window can create an id below it; that id is rejected here until
+ * its event arrives. A rebuild only starts
+ * rejecting ids if its scan began {@code feed-settle-time} after the event feed was assigned its partitions.
+ * Every id created after such a scan reaches this node as an event, so none of them can fall between the scan and
+ * the feed. Until then every id passes.
+ * <p>
+ * A Bloom filter cannot forget: deleted ids keep passing until the next rebuild and are then answered by the
+ * negative entries of the {@code spaceship} cache. Too many of them trigger an early rebuild.
+ */
+@Slf4j
+@Component
+public class SpaceshipIdFilter {
+
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+
+    private final SpaceshipRepository spaceshipRepository;
+    private final boolean enabled;
+    private final double fpp;
+    private final long minExpectedInsertions;
+    private final long rebuildIntervalNanos;
+    private final double rebuildStaleRatio;
+    private final long recentIdWindow;
+    private final long feedSettleNanos;
+
+    private volatile LongBloomFilter filter;
+    // Receives the ids created while a rebuild scans the table, so none of them is lost on the swap
+    private volatile LongBloomFilter building;
+    private volatile long expectedInsertions;
+    private volatile long lastRebuildNanos;
+    // Null until the event feed was assigned its partitions
+    private volatile Long feedAssignedNanos;
+    // Whether the current filter was scanned after the feed settled, so a miss is definite
+    private volatile boolean complete;
+    private final AtomicLong highestId = new AtomicLong();
+    private final AtomicLong insertedIds = new AtomicLong();
+    private final AtomicLong deletedIds = new AtomicLong();
+
+    private final Counter rejected;
+    private final Counter passed;
+    private final Counter falsePositives;
+
+    public SpaceshipIdFilter(SpaceshipRepository spaceshipRepository, MeterRegistry meterRegistry,
+                             @Value("${spaceship-id-filter.enabled:true}") boolean enabled,
+                             @Value("${spaceship-id-filter.fpp:0.01}") double fpp,
+                             @Value("${spaceship-id-filter.expected-insertions:100000}") long minExpectedInsertions,
+                             @Value("${spaceship-id-filter.rebuild-interval:6h}") Duration rebuildInterval,
+                             @Value("${spaceship-id-filter.rebuild-stale-ratio:0.2}") double rebuildStaleRatio,
+                             @Value("${spaceship-id-filter.recent-id-window:1000}") long recentIdWindow,
+                             @Value("${spaceship-id-filter.feed-settle-time:5s}") Duration feedSettleTime) {
+        this.spaceshipRepository = spaceshipRepository;
+        this.enabled = enabled;
+        this.fpp = fpp;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.rebuildIntervalNanos = rebuildInterval.toNanos();
+        this.rebuildStaleRatio = rebuildStaleRatio;
+        this.recentIdWindow = recentIdWindow;
+        this.feedSettleNanos = feedSettleTime.toNanos();
+
+        this.rejected = checkCounter(meterRegistry, "rejected");
+        this.passed = checkCounter(meterRegistry, "passed");
+        this.falsePositives = Counter.builder("spaceship.id.filter.false.positives")
+                .description("Ids the filter passed that were not found in the database")
+                .register(meterRegistry);
+        Gauge.builder("spaceship.id.filter.false.positive.rate", this, SpaceshipIdFilter::getFalsePositiveRate)
+                .description("Share of unknown ids the filter passed on to the cache and database")
+                .register(meterRegistry);
+        Gauge.builder("spaceship.id.filter.expected.fpp", this, SpaceshipIdFilter::getExpectedFpp)
+                .description("False-positive rate expected from the current fill of the filter")
+                .register(meterRegistry);
+        Gauge.builder("spaceship.id.filter.memory", this, SpaceshipIdFilter::getMemoryBytes)
+                .baseUnit("bytes")
+                .description("Size of the filter bit array")
+                .register(meterRegistry);
+        Gauge.builder("spaceship.id.filter.ids", insertedIds, AtomicLong::get)
+                .description("Ids added to the filter since its last rebuild")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether a spaceship with this id may exist. {@code false} is definite; {@code true} until the first rebuild
+     * that began after the feed settled.
+     */
+    public boolean mightContain(long id) {
+        LongBloomFilter current = filter;
+        return current == null || !complete || id > highestId.get() - recentIdWindow || current.mightContain(id);
+    }
+
+    /**
+     * Called when the event feed was assigned its partitions. Ids created before the feed reads them may never
+     * reach this node as events, so misses are not definite again until the next rebuild after the feed settled.
+     */
+    public void onFeedAssigned() {
+        feedAssignedNanos = System.nanoTime();
+        complete = false;
+    }
+
+    /**
+     * {@link #mightContain} that also counts the answer for the filter metrics.
+     */
+    public boolean check(long id) {
+        boolean mightExist = mightContain(id);
+        (mightExist ? passed : rejected).increment();
+        return mightExist;
+    }
+
+    /**
+     * Records that an id which passed {@link #check} does not exist.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public void add(long id) {
+        LongBloomFilter current = filter;
+        LongBloomFilter next = building;
+        if (current != null && current.put(id)) {
+            insertedIds.incrementAndGet();
+        }
+        if (next != null) {
+            next.put(id);
+        }
+        highestId.accumulateAndGet(id, Math::max);
+    }
+
+    public void onEvent(SpaceshipEventDto event) {
+        if (event.getSpaceshipId() == null) {
+            return;
+        }
+        switch (event.getEventType()) {
+            case "CREATE" -> add(event.getSpaceshipId());
+            case "DELETE" -> deletedIds.incrementAndGet();
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the filter when it does not exist yet, when {@code rebuild-interval} has passed, when deleted ids make
+     * up {@code rebuild-stale-ratio} of it, or when it holds more ids than it was sized for.
+     */
+    @Scheduled(fixedDelayString = "${spaceship-id-filter.check-interval-ms:60000}")
+    public void rebuildIfStale() {
+        if (!enabled) {
+            return;
+        }
+        long ids = insertedIds.get();
+        boolean stale = filter == null
+                || !complete && feedSettled(System.nanoTime())
+                || System.nanoTime() - lastRebuildNanos > rebuildIntervalNanos
+                || deletedIds.get() > Math.max(1, ids) * rebuildStaleRatio
+                || ids > expectedInsertions;
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long startNanos = System.nanoTime();
+        boolean scannedAfterFeed = feedSettled(startNanos);
+        try {
+            long expected = Math.max(minExpectedInsertions, spaceshipRepository.count() * 2);
+            LongBloomFilter next = LongBloomFilter.create(expected, fpp);
+            building = next;
+            long count = 0;
+            long lastId = Long.MIN_VALUE;
+            List<Long> page;
+            do {
+                page = spaceshipRepository.findActiveIdsAfter(lastId, REBUILD_PAGE_SIZE);
+                for (Long id : page) {
+                    next.put(id);
+                }
+                count += page.size();
+                if (!page.isEmpty()) {
+                    lastId = page.get(page.size() - 1);
+                }
+            } while (page.size() == REBUILD_PAGE_SIZE);
+
+            highestId.accumulateAndGet(lastId, Math::max);
+            expectedInsertions = expected;
+            insertedIds.set(count);
+            deletedIds.set(0);
+            filter = next;
+            complete = scannedAfterFeed;
+            lastRebuildNanos = System.nanoTime();
+            log.info("Rebuilt spaceship id filter with {} ids, {} bits and {} hash functions in {} ms", count,
+                    next.bitSize(), next.hashFunctions(), Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        } catch (RuntimeException e) {
+            // Until a rebuild succeeds, the previous filter (or none, letting every id pass) stays in place
+            log.warn("Failed to rebuild spaceship id filter: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private boolean feedSettled(long nanos) {
+        Long assignedNanos = feedAssignedNanos;
+        return assignedNanos != null && nanos - assignedNanos >= feedSettleNanos;
+    }
+
+    public double getFalsePositiveRate() {
+        double falsePositiveCount = falsePositives.count();
+        double absent = falsePositiveCount + rejected.count();
+        return absent == 0 ? 0 : falsePositiveCount / absent;
+    }
+
+    public double getExpectedFpp() {
+        LongBloomFilter current = filter;
+        return current == null ? 0 : current.expectedFpp();
+    }
+
+    public long getMemoryBytes() {
+        LongBloomFilter current = filter;
+        return current == null ? 0 : current.bitSize() / Byte.SIZE;
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("spaceship.id.filter.checks")
+                .tag("result", result)
+                .description("Spaceship id lookups checked against the filter")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,367 @@
+package com.develop.management.cache;
+
+import com.develop.management.dto.cache.CacheStatisticsDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * In-process Caffeine tier in front of a shared Redis cache. Local entries are keyed by the same string form
+ * Redis uses, so an invalidation received from another node can be matched without the original key object.
+ * <p>
+ * Misses on {@link #get(Object, Callable)} are loaded once per key: concurrent callers in this JVM wait for the
+ * running load, and a {@link CacheLoadLease} lets other nodes wait for its result in Redis. A caller that waited
+ * {@code loadWaitTimeout} in vain loads the value itself.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    public static final Duration DEFAULT_LOAD_WAIT_TIMEOUT = Duration.ofSeconds(3);
+
+    private static final long LEASE_POLL_INTERVAL_MILLIS = 20;
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final org.springframework.cache.Cache remoteCache;
+    private final RemoteCacheBatch remoteBatch;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CacheTierStatistics statistics = new CacheTierStatistics();
+    private final boolean cacheNullValues;
+    private final CacheLoadLease loadLease;
+    private final Duration loadWaitTimeout;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loadsInFlight = new ConcurrentHashMap<>();
+
+    public TwoLevelCache(String name, Cache<String, Object> localCache, org.springframework.cache.Cache remoteCache,
+                         CacheInvalidationPublisher invalidationPublisher) {
+        this(name, localCache, remoteCache, RemoteCacheBatch.iterating(remoteCache), invalidationPublisher, true,
+                CacheLoadLease.LOCAL, DEFAULT_LOAD_WAIT_TIMEOUT);
+    }
+
+    /**
+     * @param remoteBatch     multi-key access to {@code remoteCache}
+     * @param cacheNullValues whether a {@code null} result is cached; when not, it is returned but loaded again next time
+     * @param loadLease       decides which node loads a missing key
+     * @param loadWaitTimeout how long a caller waits for another load of the same key before loading it itself
+     */
+    public TwoLevelCache(String name, Cache<String, Object> localCache, org.springframework.cache.Cache remoteCache,
+                         RemoteCacheBatch remoteBatch, CacheInvalidationPublisher invalidationPublisher,
+                         boolean cacheNullValues, CacheLoadLease loadLease, Duration loadWaitTimeout) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.remoteBatch = remoteBatch;
+        this.invalidationPublisher = invalidationPublisher;
+        this.cacheNullValues = cacheNullValues;
+        this.loadLease = loadLease;
+        this.loadWaitTimeout = loadWaitTimeout;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+        Object storeValue = localCache.getIfPresent(localKey);
+        if (storeValue != null) {
+            statistics.localHit();
+            return storeValue;
+        }
+        statistics.localMiss();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null) {
+            statistics.remoteMiss();
+            return null;
+        }
+        statistics.remoteHit();
+
+        storeValue = toStoreValue(remoteValue.get());
+        localCache.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object storeValue = lookup(key);
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+
+        String localKey = toLocalKey(key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> runningLoad = loadsInFlight.putIfAbsent(localKey, load);
+        if (runningLoad != null) {
+            statistics.coalescedLoad();
+            return (T) fromStoreValue(awaitLoad(key, runningLoad, valueLoader));
+        }
+        try {
+            storeValue = loadOnce(key, localKey, valueLoader);
+            load.complete(storeValue);
+            return (T) fromStoreValue(storeValue);
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadsInFlight.remove(localKey, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null && !cacheNullValues) {
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(toLocalKey(key), toStoreValue(value));
+        statistics.put();
+    }
+
+    /**
+     * Looks the key up in the local tier only, so it never waits on Redis.
+     *
+     * @return the cached value, or {@code null} if the key is not cached locally
+     */
+    public ValueWrapper getLocal(Object key) {
+        Object storeValue = localCache.getIfPresent(toLocalKey(key));
+        if (storeValue == null) {
+            statistics.localMiss();
+            return null;
+        }
+        statistics.localHit();
+        return toValueWrapper(storeValue);
+    }
+
+    /**
+     * Looks several keys up in the shared tier with a single round trip and copies the hits into the local tier.
+     *
+     * @return the cached values of the keys that were found
+     */
+    public <K> Map<K, ValueWrapper> getAllRemote(Collection<K> keys) {
+        Map<Object, Object> remoteValues = remoteBatch.getAll(keys);
+        Map<K, ValueWrapper> values = new HashMap<>();
+        for (K key : keys) {
+            Object storeValue = remoteValues.get(key);
+            if (storeValue == null) {
+                statistics.remoteMiss();
+                continue;
+            }
+            statistics.remoteHit();
+            localCache.put(toLocalKey(key), storeValue);
+            values.put(key, new SimpleValueWrapper(fromStoreValue(storeValue)));
+        }
+        return values;
+    }
+
+    /**
+     * Stores several values in both tiers, writing the shared tier in a single round trip.
+     */
+    public void putAll(Map<?, ?> values) {
+        Map<Object, Object> cachedValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (value != null || cacheNullValues) {
+                cachedValues.put(key, value);
+            }
+        });
+        if (cachedValues.isEmpty()) {
+            return;
+        }
+        remoteBatch.putAll(cachedValues);
+        cachedValues.forEach((key, value) -> {
+            localCache.put(toLocalKey(key), toStoreValue(value));
+            statistics.put();
+        });
+    }
+
+    /**
+     * Like {@link #putAll}, but keeps the entries that are cached already. Meant for values read as a side effect
+     * of another query: that read may predate a concurrent write, whose readers have cached the newer value since.
+     */
+    public void putAllIfAbsent(Map<?, ?> values) {
+        Map<Object, Object> cachedValues = new LinkedHashMap<>();
+        values.forEach((key, value) -> {
+            if (value != null || cacheNullValues) {
+                cachedValues.put(key, value);
+            }
+        });
+        if (cachedValues.isEmpty()) {
+            return;
+        }
+        for (Object key : remoteBatch.putAllIfAbsent(cachedValues)) {
+            localCache.asMap().putIfAbsent(toLocalKey(key), toStoreValue(cachedValues.get(key)));
+            statistics.put();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        remoteCache.evict(key);
+        localCache.invalidate(localKey);
+        statistics.evicted(1);
+        invalidationPublisher.publishEvict(name, List.of(localKey));
+    }
+
+    /**
+     * Evicts several keys with a single broadcast to the other nodes.
+     */
+    public void evictAll(Collection<?> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> localKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            String localKey = toLocalKey(key);
+            remoteCache.evict(key);
+            localCache.invalidate(localKey);
+            localKeys.add(localKey);
+        }
+        statistics.evicted(localKeys.size());
+        invalidationPublisher.publishEvict(name, localKeys);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    public CacheTierStatistics getStatistics() {
+        return statistics;
+    }
+
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    /**
+     * Size-based and TTL evictions of the local tier, as counted by Caffeine.
+     */
+    public long getLocalEvictions() {
+        return localCache.stats().evictionCount();
+    }
+
+    public CacheStatisticsDto getStatisticsSnapshot() {
+        return statistics.snapshot(name, localCache.estimatedSize());
+    }
+
+    public boolean isCacheNullValues() {
+        return cacheNullValues;
+    }
+
+    private Object awaitLoad(Object key, CompletableFuture<Object> runningLoad, Callable<?> valueLoader) {
+        try {
+            return runningLoad.get(loadWaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return store(key, loadValue(key, valueLoader));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        // The previous load of this key may have finished between our miss and taking over
+        Object storeValue = localCache.getIfPresent(localKey);
+        if (storeValue != null) {
+            return storeValue;
+        }
+
+        long deadline = System.nanoTime() + loadWaitTimeout.toNanos();
+        boolean waited = false;
+        while (!loadLease.tryAcquire(name, localKey)) {
+            // Another node is loading the key and stores the result in Redis before it releases the lease
+            waited = true;
+            storeValue = pollRemote(key, localKey);
+            if (storeValue != null) {
+                statistics.coalescedLoad();
+                return storeValue;
+            }
+            if (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted()) {
+                return store(key, loadValue(key, valueLoader));
+            }
+        }
+        try {
+            ValueWrapper remoteValue = waited ? remoteCache.get(key) : null;
+            if (remoteValue != null) {
+                storeValue = toStoreValue(remoteValue.get());
+                localCache.put(localKey, storeValue);
+                return storeValue;
+            }
+            return store(key, loadValue(key, valueLoader));
+        } finally {
+            loadLease.release(name, localKey);
+        }
+    }
+
+    private Object pollRemote(Object key, String localKey) {
+        try {
+            Thread.sleep(LEASE_POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        Object storeValue = toStoreValue(remoteValue.get());
+        localCache.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    private Object store(Object key, Object value) {
+        put(key, value);
+        return toStoreValue(value);
+    }
+
+    private <T> T loadValue(Object key, Callable<T> valueLoader) {
+        statistics.load();
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
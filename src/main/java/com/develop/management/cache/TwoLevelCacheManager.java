@@ -0,0 +1,119 @@
+package com.develop.management.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final CachePolicies cachePolicies;
+    private final CacheLoadLease loadLease;
+    private final Duration loadWaitTimeout;
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager, RedisConnectionFactory redisConnectionFactory,
+                                CacheInvalidationPublisher invalidationPublisher, CachePolicies cachePolicies,
+                                CacheLoadLease loadLease, Duration loadWaitTimeout) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.invalidationPublisher = invalidationPublisher;
+        this.cachePolicies = cachePolicies;
+        this.loadLease = loadLease;
+        this.loadWaitTimeout = loadWaitTimeout;
+    }
+
+    /**
+     * Creates the given caches up front, so they exist when cache metrics are bound at startup.
+     */
+    public void setCacheNames(Collection<String> cacheNames) {
+        cacheNames.forEach(this::getCache);
+    }
+
+    @Override
+    public TwoLevelCache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public List<TwoLevelCache> getCaches() {
+        return List.copyOf(caches.values());
+    }
+
+    /**
+     * Effective policy of every cache created so far, by cache name.
+     */
+    public Map<String, CachePolicy> getPolicies() {
+        Map<String, CachePolicy> policies = new TreeMap<>();
+        caches.keySet().forEach(name -> policies.put(name, cachePolicies.policy(name)));
+        return policies;
+    }
+
+    public void handleRemoteInvalidation(CacheInvalidationMessage message) {
+        if (invalidationPublisher.getNodeId().equals(message.nodeId())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(message.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.keys() == null) {
+            cache.clearLocal();
+        } else {
+            message.keys().forEach(cache::evictLocal);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        CachePolicy policy = cachePolicies.policy(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(policy.localMaxSize())
+                .expireAfter(new PolicyExpiry(policy))
+                .recordStats()
+                .build();
+        RedisCache remoteCache = (RedisCache) redisCacheManager.getCache(name);
+        return new TwoLevelCache(name, localCache, remoteCache, new RedisCacheBatch(redisConnectionFactory, remoteCache),
+                invalidationPublisher, policy.cacheNullValues(), loadLease, loadWaitTimeout);
+    }
+
+    /**
+     * Expires local entries {@code localTtl} after they were written, cached {@code null}s after {@code negativeTtl}.
+     */
+    private record PolicyExpiry(CachePolicy policy) implements Expiry<String, Object> {
+
+        @Override
+        public long expireAfterCreate(String key, Object value, long currentTime) {
+            return (value == NullValue.INSTANCE ? policy.localNegativeTtl() : policy.localTtl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.develop.management.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Standard {@code cache.*} meters for a {@link TwoLevelCache}, plus per-tier lookups so a drop in the local
+ * hit ratio can be told apart from Redis misses.
+ */
+public class TwoLevelCacheMetrics extends CacheMeterBinder<TwoLevelCache> {
+
+    private final TwoLevelCache cache;
+
+    public TwoLevelCacheMetrics(TwoLevelCache cache, Iterable<Tag> tags) {
+        super(cache, cache.getName(), tags);
+        this.cache = cache;
+    }
+
+    @Override
+    protected Long size() {
+        return cache.getLocalSize();
+    }
+
+    @Override
+    protected long hitCount() {
+        return cache.getStatistics().getLocalHits() + cache.getStatistics().getRemoteHits();
+    }
+
+    @Override
+    protected Long missCount() {
+        return cache.getStatistics().getRemoteMisses();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return cache.getStatistics().getEvictions();
+    }
+
+    @Override
+    protected long putCount() {
+        return cache.getStatistics().getPuts();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        tierCounter(registry, "local", "hit", CacheTierStatistics::getLocalHits);
+        tierCounter(registry, "local", "miss", CacheTierStatistics::getLocalMisses);
+        tierCounter(registry, "remote", "hit", CacheTierStatistics::getRemoteHits);
+        tierCounter(registry, "remote", "miss", CacheTierStatistics::getRemoteMisses);
+
+        loadCounter(registry, "loaded", CacheTierStatistics::getLoads);
+        loadCounter(registry, "coalesced", CacheTierStatistics::getCoalescedLoads);
+
+        FunctionCounter.builder("cache.local.evictions", cache, TwoLevelCache::getLocalEvictions)
+                .tags(getTagsWithCacheName())
+                .description("Entries dropped from the local tier by size or TTL")
+                .register(registry);
+    }
+
+    private void tierCounter(MeterRegistry registry, String tier, String result,
+                             ToDoubleFunction<CacheTierStatistics> count) {
+        FunctionCounter.builder("cache.tier.gets", cache.getStatistics(), count)
+                .tags(getTagsWithCacheName())
+                .tags(List.of(Tag.of("tier", tier), Tag.of("result", result)))
+                .description("Lookups per cache tier")
+                .register(registry);
+    }
+
+    private void loadCounter(MeterRegistry registry, String result, ToDoubleFunction<CacheTierStatistics> count) {
+        FunctionCounter.builder("cache.loads", cache.getStatistics(), count)
+                .tags(getTagsWithCacheName())
+                .tag("result", result)
+                .description("Cache misses loaded by this node, or answered by a load already running")
+                .register(registry);
+    }
+}
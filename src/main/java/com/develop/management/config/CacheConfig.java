@@ -1,33 +1,114 @@
 package com.develop.management.config;
 
+import com.develop.management.cache.CacheGenerationService;
+import com.develop.management.cache.CacheInvalidationListener;
+import com.develop.management.cache.CacheInvalidationPublisher;
+import com.develop.management.cache.CacheLoadLease;
+import com.develop.management.cache.CachePolicies;
+import com.develop.management.cache.CacheValueSerializer;
+import com.develop.management.cache.PageOrderGenerations;
+import com.develop.management.cache.PolicyRedisCacheManager;
+import com.develop.management.cache.RedisCacheLoadLease;
+import com.develop.management.cache.TwoLevelCache;
+import com.develop.management.cache.TwoLevelCacheManager;
+import com.develop.management.cache.TwoLevelCacheMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 
 @Configuration
 public class CacheConfig {
 
-    @Value("1")
-    private int cacheTtl; // 1 hour
+    @Value("${cache.invalidation.channel:spaceships:cache-invalidation}")
+    private String invalidationChannel;
+
+    @Value("${cache.names:spaceship,spaceships,spaceshipSearch}")
+    private List<String> cacheNames;
+
+    @Value("${cache.redis.value-format:json}")
+    private String valueFormat;
+
+    @Value("${cache.redis.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    @Value("${cache.single-flight.wait-timeout:3s}")
+    private Duration loadWaitTimeout;
+
+    @Value("${cache.single-flight.lease.enabled:true}")
+    private boolean loadLeaseEnabled;
+
+    @Value("${cache.single-flight.lease.ttl:10s}")
+    private Duration loadLeaseTtl;
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, objectMapper, invalidationChannel);
+    }
+
+    @Bean
+    public CachePolicies cachePolicies(Environment environment) {
+        return new CachePolicies(environment);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             CacheInvalidationPublisher cacheInvalidationPublisher,
+                                             CachePolicies cachePolicies,
+                                             StringRedisTemplate stringRedisTemplate) {
+        // TTL and null handling come from the CachePolicy of each cache
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(cacheTtl))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CacheValueSerializer(
+                        CacheValueSerializer.Format.valueOf(valueFormat.toUpperCase(Locale.ROOT)), compressionThreshold)));
+
+        RedisCacheManager redisCacheManager = new PolicyRedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory), config, cachePolicies);
+        redisCacheManager.afterPropertiesSet();
+
+        CacheLoadLease loadLease = loadLeaseEnabled
+                ? new RedisCacheLoadLease(stringRedisTemplate, cacheInvalidationPublisher.getNodeId(), loadLeaseTtl)
+                : CacheLoadLease.LOCAL;
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, redisConnectionFactory,
+                cacheInvalidationPublisher, cachePolicies, loadLease, loadWaitTimeout);
+        cacheManager.setCacheNames(cacheNames);
+        return cacheManager;
+    }
 
-        return RedisCacheManager.builder(redisConnectionFactory)
-                .cacheDefaults(config)
-                .build();
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return TwoLevelCacheMetrics::new;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager,
+                                                                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                                                                            CacheGenerationService cacheGenerationService,
+                                                                            PageOrderGenerations pageOrderGenerations,
+                                                                            ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(new CacheInvalidationListener(cacheManager, objectMapper),
+                new ChannelTopic(cacheInvalidationPublisher.getChannel()));
+        container.addMessageListener(cacheGenerationService, new ChannelTopic(cacheGenerationService.getChannel()));
+        container.addMessageListener(pageOrderGenerations, new ChannelTopic(pageOrderGenerations.getChannel()));
+        return container;
     }
 
 }
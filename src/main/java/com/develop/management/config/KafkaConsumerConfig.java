@@ -0,0 +1,95 @@
+package com.develop.management.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Batch listener setup for {@code KafkaSpaceshipConsumer}: one consumer thread per partition, offsets committed
+ * by the listener once a whole batch is processed, and records that keep failing parked on
+ * {@code <topic>.DLT}. Other listeners keep the auto-configured single-record factory.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String BATCH_LISTENER_FACTORY = "spaceshipBatchListenerFactory";
+    public static final String DEAD_LETTER_SUFFIX = ".DLT";
+
+    private final String spaceshipTopic;
+    private final int partitions;
+    private final int concurrency;
+    private final Duration retryInterval;
+    private final int retryMaxAttempts;
+
+    public KafkaConsumerConfig(@Value("${kafka.topic.spaceship-events}") String spaceshipTopic,
+                               @Value("${kafka.topic.partitions:3}") int partitions,
+                               @Value("${kafka.consumer.concurrency:${kafka.topic.partitions:3}}") int concurrency,
+                               @Value("${kafka.consumer.retry.interval:1s}") Duration retryInterval,
+                               @Value("${kafka.consumer.retry.max-attempts:3}") int retryMaxAttempts) {
+        this.spaceshipTopic = spaceshipTopic;
+        this.partitions = partitions;
+        this.concurrency = concurrency;
+        this.retryInterval = retryInterval;
+        this.retryMaxAttempts = retryMaxAttempts;
+    }
+
+    @Bean
+    public NewTopic spaceshipEventsTopic() {
+        return TopicBuilder.name(spaceshipTopic).partitions(partitions).build();
+    }
+
+    // The recoverer publishes to the same partition number as the failed record, so the DLT needs as many partitions
+    // as the source topic
+    @Bean
+    public NewTopic spaceshipEventsDeadLetterTopic() {
+        return TopicBuilder.name(spaceshipTopic + DEAD_LETTER_SUFFIX).partitions(partitions).build();
+    }
+
+    @Bean(BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> spaceshipBatchListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<Object, Object> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        // Keeps spring.kafka.listener.* and the virtual thread executor of the auto-configured factory
+        configurer.configure(factory, consumerFactory);
+        configureBatchListener(factory, kafkaTemplate);
+        return factory;
+    }
+
+    public void configureBatchListener(ConcurrentKafkaListenerContainerFactory<?, ?> factory,
+                                       KafkaTemplate<Object, Object> kafkaTemplate) {
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(deadLetterErrorHandler(kafkaTemplate));
+    }
+
+    // Retries the failed record (earlier records of the batch are committed first), then publishes it to the DLT.
+    // Payloads that could not be deserialized are not retried and are forwarded as the original bytes
+    private DefaultErrorHandler deadLetterErrorHandler(KafkaTemplate<Object, Object> kafkaTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, new KafkaTemplate<>(kafkaTemplate.getProducerFactory(),
+                Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class)));
+        templates.put(Object.class, kafkaTemplate);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates);
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(retryInterval.toMillis(), retryMaxAttempts - 1L));
+    }
+}
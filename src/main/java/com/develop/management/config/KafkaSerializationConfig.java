@@ -0,0 +1,24 @@
+package com.develop.management.config;
+
+import com.develop.management.msgbrokers.serialization.SpaceshipEventFormat;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Locale;
+import java.util.Map;
+
+@Configuration
+public class KafkaSerializationConfig {
+
+    // Switch to avro only once every consumer runs SpaceshipEventDeserializer; it reads JSON and Avro alike
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer spaceshipEventFormatCustomizer(
+            @Value("${kafka.serialization.format:json}") String format) {
+        SpaceshipEventFormat eventFormat = SpaceshipEventFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        return producerFactory -> producerFactory.updateConfigs(
+                Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, eventFormat.getSerializer()));
+    }
+}
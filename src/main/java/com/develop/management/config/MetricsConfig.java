@@ -0,0 +1,25 @@
+package com.develop.management.config;
+
+import com.develop.management.aspect.LatencyInterceptor;
+import com.develop.management.monitoring.LatencyRegistry;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Makes @Timed work on arbitrary beans, not only on what Spring MVC observes by itself
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public Advisor latencyTrackingAdvisor(LatencyRegistry latencyRegistry) {
+        return new DefaultPointcutAdvisor(LatencyInterceptor.pointcut(), new LatencyInterceptor(latencyRegistry));
+    }
+}
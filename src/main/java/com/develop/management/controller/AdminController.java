@@ -0,0 +1,107 @@
+package com.develop.management.controller;
+
+import com.develop.management.cache.TwoLevelCache;
+import com.develop.management.cache.TwoLevelCacheManager;
+import com.develop.management.dto.cache.CachePolicyDto;
+import com.develop.management.dto.cache.CacheStatisticsDto;
+import com.develop.management.dto.feed.FeedStatisticsDto;
+import com.develop.management.dto.latency.MethodLatencyDto;
+import com.develop.management.dto.latency.SlowCallDto;
+import com.develop.management.dto.threads.ThreadingStatisticsDto;
+import com.develop.management.exception.ErrorResponse;
+import com.develop.management.feed.SpaceshipFeedBroadcaster;
+import com.develop.management.monitoring.LatencyRegistry;
+import com.develop.management.monitoring.VirtualThreadPinningMonitor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('ADMIN')")
+@Tag(name = "Admin API", description = "Operational endpoints for administrators")
+@ApiResponses({@ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+public class AdminController {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+    private final LatencyRegistry latencyRegistry;
+    private final SpaceshipFeedBroadcaster feedBroadcaster;
+
+    @Operation(summary = "Get cache statistics", description = "Hit and miss counters of the local and Redis cache tiers", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    @GetMapping("/caches")
+    public List<CacheStatisticsDto> getCacheStatistics() {
+        return cacheManager.getCaches().stream()
+                .map(TwoLevelCache::getStatisticsSnapshot)
+                .sorted(Comparator.comparing(CacheStatisticsDto::getCacheName))
+                .toList();
+    }
+
+    @Operation(summary = "Get cache policies", description = "Effective TTL, TTL jitter, null-value, negative TTL and local tier settings of every cache", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved cache policies")
+    @GetMapping("/caches/policies")
+    public List<CachePolicyDto> getCachePolicies() {
+        return cacheManager.getPolicies().entrySet().stream()
+                .map(entry -> CachePolicyDto.builder()
+                        .cacheName(entry.getKey())
+                        .ttlSeconds(entry.getValue().ttl().toSeconds())
+                        .ttlJitterSeconds(entry.getValue().ttlJitter().toSeconds())
+                        .cacheNullValues(entry.getValue().cacheNullValues())
+                        .negativeTtlSeconds(entry.getValue().negativeTtl().toSeconds())
+                        .localMaxSize(entry.getValue().localMaxSize())
+                        .localTtlSeconds(entry.getValue().localTtl().toSeconds())
+                        .build())
+                .toList();
+    }
+
+    @Operation(summary = "Get threading statistics", description = "Whether virtual threads are enabled and how often they pinned their carrier threads", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved threading statistics")
+    @GetMapping("/threads")
+    public ThreadingStatisticsDto getThreadingStatistics() {
+        return virtualThreadPinningMonitor.getStatistics();
+    }
+
+    @Operation(summary = "Get method latencies", description = "Latency percentiles of the service and repository methods since startup, slowest p99 first", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved method latencies")
+    @GetMapping("/latency")
+    public List<MethodLatencyDto> getMethodLatencies() {
+        return latencyRegistry.getLatencies();
+    }
+
+    @Operation(summary = "Get recent slow calls", description = "The latest calls over the slow-call threshold, as of the last periodic dump", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved slow calls")
+    @GetMapping("/latency/slow-calls")
+    public List<SlowCallDto> getSlowCalls() {
+        return latencyRegistry.getRecentSlowCalls();
+    }
+
+    @Operation(summary = "Get spaceship feed statistics", description = "Open SSE subscribers, their pending events and how many were dropped for falling behind", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved feed statistics")
+    @GetMapping("/feed")
+    public FeedStatisticsDto getFeedStatistics(@Parameter(description = "Run a full GC first and report the used heap, to measure memory per subscriber") @RequestParam(defaultValue = "false") boolean gc) {
+        FeedStatisticsDto statistics = feedBroadcaster.getStatistics();
+        if (gc) {
+            ManagementFactory.getMemoryMXBean().gc();
+            statistics.setHeapUsedBytes(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+        }
+        return statistics;
+    }
+
+}
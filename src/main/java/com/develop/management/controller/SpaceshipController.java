@@ -1,11 +1,12 @@
 package com.develop.management.controller;
 
-import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
-import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.*;
+import com.develop.management.exception.EntityNotFoundException;
 import com.develop.management.exception.ErrorResponse;
-import com.develop.management.dto.spaceship.PageResponseDto;
-import com.develop.management.dto.spaceship.SpaceshipsDataDto;
+import com.develop.management.exception.SpaceshipVersionMismatchException;
+import com.develop.management.monitoring.PayloadLogSampler;
 import com.develop.management.service.SpaceshipServiceImpl;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,52 +17,107 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @Slf4j
 @RequestMapping("/api/spaceships")
+@Timed(value = "spaceships.api", histogram = true, description = "SpaceshipController endpoint latency")
 @Tag(name = "Spaceship API", description = "CRUD operations for spaceships from movies and series")
 @ApiResponses({@ApiResponse(responseCode = "400", description = "Invalid input provided", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))), @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))), @ApiResponse(responseCode = "500", description = "Unexpected server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
 public class SpaceshipController {
 
     private final SpaceshipServiceImpl spaceshipServiceImpl;
+    private final PayloadLogSampler payloadLogSampler;
 
-    public SpaceshipController(SpaceshipServiceImpl spaceshipServiceImpl) {
+    public SpaceshipController(SpaceshipServiceImpl spaceshipServiceImpl, PayloadLogSampler payloadLogSampler) {
         this.spaceshipServiceImpl = spaceshipServiceImpl;
+        this.payloadLogSampler = payloadLogSampler;
     }
 
-    @Operation(summary = "Get all spaceships", description = "Retrieve all spaceships with pagination support", security = @SecurityRequirement(name = "BearerAuth"))
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved all spaceships")
+    @Operation(summary = "Get all spaceships", description = "Retrieve all spaceships with pagination support; revalidate with If-None-Match", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Successfully retrieved all spaceships"), @ApiResponse(responseCode = "304", description = "No spaceship changed since the ETag in If-None-Match was issued")})
     @GetMapping
-    public PageResponseDto<SpaceshipDto> getAllSpaceships(Pageable pageable) {
+    public ResponseEntity<PageResponseDto<SpaceshipDto>> getAllSpaceships(Pageable pageable, WebRequest webRequest) {
+        long startNanos = System.nanoTime();
+        String eTag = listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            logSummary("getAllSpaceships", "Spaceships not modified", "eTag", eTag, startNanos);
+            return null;
+        }
         PageResponseDto<SpaceshipDto> allSpaceships = spaceshipServiceImpl.getAllSpaceships(pageable);
-        log.info("Retrieved spaceships: {}", allSpaceships.getContent());
-        return allSpaceships;
+        logSummary("getAllSpaceships", "Retrieved spaceships", "count", allSpaceships.getContent().size(), startNanos);
+        logPayload("getAllSpaceships", allSpaceships.getContent());
+        return ResponseEntity.ok().eTag(eTag).body(allSpaceships);
+    }
+
+    @Operation(summary = "Get spaceships by cursor", description = "Retrieve spaceships page by page using an opaque cursor; latency does not depend on page depth", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Successfully retrieved the page of spaceships"), @ApiResponse(responseCode = "304", description = "No spaceship changed since the ETag in If-None-Match was issued")})
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<SpaceshipDto>> getSpaceshipsAfter(@Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(required = false) String after,
+                                                                                  @Parameter(description = "Number of spaceships per page") @RequestParam(defaultValue = "20") int size,
+                                                                                  @Parameter(description = "Sort key: id or name") @RequestParam(defaultValue = "id") String sort,
+                                                                                  WebRequest webRequest) {
+        long startNanos = System.nanoTime();
+        String eTag = listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            logSummary("getSpaceshipsAfter", "Spaceships after cursor not modified", "eTag", eTag, startNanos);
+            return null;
+        }
+        CursorPageResponseDto<SpaceshipDto> spaceships = spaceshipServiceImpl.getSpaceshipsAfter(after, size, sort);
+        logSummary("getSpaceshipsAfter", "Retrieved spaceships after cursor", "count", spaceships.getContent().size(), startNanos);
+        logPayload("getSpaceshipsAfter", spaceships.getContent());
+        return ResponseEntity.ok().eTag(eTag).body(spaceships);
     }
 
     @Operation(summary = "Get spaceship by ID", description = "Retrieve a spaceship by its ID", security = @SecurityRequirement(name = "BearerAuth"))
-    @ApiResponses({@ApiResponse(responseCode = "200", description = "Successfully retrieved the spaceship", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpaceshipDto.class))), @ApiResponse(responseCode = "404", description = "Spaceship not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Successfully retrieved the spaceship", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpaceshipDto.class))), @ApiResponse(responseCode = "304", description = "Spaceship is unchanged since the ETag in If-None-Match was issued"), @ApiResponse(responseCode = "404", description = "Spaceship not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
     @GetMapping("/{id}")
     public ResponseEntity<SpaceshipDto> getSpaceshipById(@Parameter(description = "ID of the spaceship to be retrieved") @PathVariable Long id) {
-        ResponseEntity<SpaceshipDto> spaceshipDtoResponse = spaceshipServiceImpl
-                .getSpaceshipById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
-        log.info("Retrieved spaceship: {}", spaceshipDtoResponse.getBody());
-        return spaceshipDtoResponse;
+        long startNanos = System.nanoTime();
+        SpaceshipDto spaceship = spaceshipServiceImpl.getSpaceshipById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Spaceship with ID " + id + " not found"));
+        logSummary("getSpaceshipById", "Retrieved spaceship", "id", id, startNanos);
+        logPayload("getSpaceshipById", spaceship);
+        return ResponseEntity.ok().eTag(spaceshipETag(spaceship)).body(spaceship);
+    }
+
+    @Operation(summary = "Get spaceships by IDs", description = "Retrieve up to 1000 spaceships by ID in one call, in request order; IDs that do not exist get a NOT_FOUND result", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponseDto.class)))
+    @GetMapping("/batch")
+    public ResponseEntity<BulkOperationResponseDto> getSpaceshipsByIds(@Parameter(description = "Comma-separated IDs of the spaceships to be retrieved") @RequestParam List<Long> ids) {
+        return spaceshipsByIds(ids);
+    }
+
+    @Operation(summary = "Get spaceships by IDs", description = "Same as GET /batch, for ID lists too long for a query string", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponseDto.class)))
+    @PostMapping("/batch")
+    public ResponseEntity<BulkOperationResponseDto> getSpaceshipsByIdList(@Parameter(description = "IDs of the spaceships to be retrieved") @RequestBody List<Long> ids) {
+        return spaceshipsByIds(ids);
     }
 
-    @Operation(summary = "Search spaceships by name", description = "Search for spaceships containing the specified name", security = @SecurityRequirement(name = "BearerAuth"))
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved the spaceships matching the query")
+    @Operation(summary = "Search spaceships by name", description = "Search for spaceships containing the specified name, best matches first, with pagination support", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Successfully retrieved the spaceships matching the query"), @ApiResponse(responseCode = "304", description = "No spaceship changed since the ETag in If-None-Match was issued")})
     @GetMapping("/search")
-    public SpaceshipsDataDto searchSpaceshipsByName(@Parameter(description = "Part of the name to search for") @RequestParam String name) {
-        SpaceshipsDataDto spaceshipsDataDto = spaceshipServiceImpl.searchSpaceshipsByName(name);
-        log.info("Retrieved spaceships by it's name: {}", spaceshipsDataDto.getSpaceships());
-        return spaceshipsDataDto;
+    public ResponseEntity<SpaceshipsDataDto> searchSpaceshipsByName(@Parameter(description = "Part of the name to search for") @RequestParam String name, Pageable pageable, WebRequest webRequest) {
+        long startNanos = System.nanoTime();
+        String eTag = listETag();
+        if (webRequest.checkNotModified(eTag)) {
+            logSummary("searchSpaceshipsByName", "Spaceships by name not modified", "eTag", eTag, startNanos);
+            return null;
+        }
+        SpaceshipsDataDto spaceshipsDataDto = spaceshipServiceImpl.searchSpaceshipsByName(name, pageable);
+        logSummary("searchSpaceshipsByName", "Retrieved spaceships by name", "count", spaceshipsDataDto.getSpaceships().size(), startNanos);
+        logPayload("searchSpaceshipsByName", spaceshipsDataDto.getSpaceships());
+        return ResponseEntity.ok().eTag(eTag).body(spaceshipsDataDto);
     }
 
     @Operation(summary = "Create a new spaceship", description = "Create a new spaceship entity", security = @SecurityRequirement(name = "BearerAuth"))
@@ -69,18 +125,26 @@ public class SpaceshipController {
     @PostMapping
     @PreAuthorize("hasAuthority('ADMIN')")
     public ResponseEntity<SpaceshipDto> createSpaceship(@Parameter(description = "Spaceship entity to be created") @RequestBody CreateSpaceshipRequestDto spaceship) {
+        long startNanos = System.nanoTime();
         SpaceshipDto createdSpaceship = spaceshipServiceImpl.createSpaceship(spaceship);
-        log.info("Successfully created spaceship: {}", createdSpaceship);
-        return new ResponseEntity<>(createdSpaceship, HttpStatus.CREATED);
+        logSummary("createSpaceship", "Successfully created spaceship", "id", createdSpaceship.getId(), startNanos);
+        logPayload("createSpaceship", createdSpaceship);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(spaceshipETag(createdSpaceship)).body(createdSpaceship);
     }
 
-    @Operation(summary = "Update a spaceship", description = "Update an existing spaceship by ID", security = @SecurityRequirement(name = "BearerAuth"))
-    @ApiResponses({@ApiResponse(responseCode = "200", description = "Spaceship updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpaceshipDto.class))), @ApiResponse(responseCode = "404", description = "Spaceship not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+    @Operation(summary = "Update a spaceship", description = "Update an existing spaceship by ID; send its ETag in If-Match to update only an unchanged spaceship", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponses({@ApiResponse(responseCode = "200", description = "Spaceship updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SpaceshipDto.class))), @ApiResponse(responseCode = "409", description = "Spaceship was updated concurrently", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))), @ApiResponse(responseCode = "412", description = "Spaceship no longer matches If-Match", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))), @ApiResponse(responseCode = "404", description = "Spaceship not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
     @PutMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<SpaceshipDto> updateSpaceship(@Parameter(description = "ID of the spaceship to be updated") @PathVariable Long id, @Parameter(description = "Updated spaceship entity") @RequestBody CreateSpaceshipRequestDto spaceship) {
-        ResponseEntity<SpaceshipDto> updateResponse = ResponseEntity.ok(spaceshipServiceImpl.updateSpaceship(id, spaceship));
-        log.info("Successfully updated spaceship: {}", updateResponse.getBody());
+    public ResponseEntity<SpaceshipDto> updateSpaceship(@Parameter(description = "ID of the spaceship to be updated") @PathVariable Long id, @Parameter(description = "Updated spaceship entity") @RequestBody CreateSpaceshipRequestDto spaceship,
+                                                        @Parameter(description = "ETag of the spaceship version being updated") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long startNanos = System.nanoTime();
+        SpaceshipDto updatedSpaceship = ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())
+                ? spaceshipServiceImpl.updateSpaceship(id, spaceship)
+                : spaceshipServiceImpl.updateSpaceship(id, spaceship, expectedVersion(id, ifMatch));
+        ResponseEntity<SpaceshipDto> updateResponse = ResponseEntity.ok().eTag(spaceshipETag(updatedSpaceship)).body(updatedSpaceship);
+        logSummary("updateSpaceship", "Successfully updated spaceship", "id", id, startNanos);
+        logPayload("updateSpaceship", updateResponse.getBody());
         return updateResponse;
     }
 
@@ -89,9 +153,118 @@ public class SpaceshipController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ADMIN')")
     public ResponseEntity<Void> deleteSpaceship(@Parameter(description = "ID of the spaceship to be deleted") @PathVariable Long id) {
+        long startNanos = System.nanoTime();
         spaceshipServiceImpl.deleteSpaceship(id);
-        log.info("Successfully deleted spaceship with ID: {}", id);
+        logSummary("deleteSpaceship", "Successfully deleted spaceship", "id", id, startNanos);
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Create spaceships in bulk", description = "Create many spaceships in one transaction; each item gets its own result", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Bulk request processed, see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponseDto.class)))
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<BulkOperationResponseDto> createSpaceships(@Parameter(description = "Spaceship entities to be created") @RequestBody List<CreateSpaceshipRequestDto> spaceships) {
+        long startNanos = System.nanoTime();
+        BulkOperationResponseDto response = spaceshipServiceImpl.createSpaceships(spaceships);
+        log.atInfo().setMessage("Bulk created spaceships")
+                .addKeyValue("endpoint", "createSpaceships")
+                .addKeyValue("succeeded", response.getSucceeded())
+                .addKeyValue("failed", response.getFailed())
+                .addKeyValue("durationMs", elapsedMillis(startNanos))
+                .log();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Update spaceships in bulk", description = "Update many spaceships in one transaction; each item gets its own result", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Bulk request processed, see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponseDto.class)))
+    @PutMapping("/bulk")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<BulkOperationResponseDto> updateSpaceships(@Parameter(description = "IDs with updated spaceship entities") @RequestBody List<UpdateSpaceshipItemDto> spaceships) {
+        long startNanos = System.nanoTime();
+        BulkOperationResponseDto response = spaceshipServiceImpl.updateSpaceships(spaceships);
+        log.atInfo().setMessage("Bulk updated spaceships")
+                .addKeyValue("endpoint", "updateSpaceships")
+                .addKeyValue("succeeded", response.getSucceeded())
+                .addKeyValue("failed", response.getFailed())
+                .addKeyValue("durationMs", elapsedMillis(startNanos))
+                .log();
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Delete spaceships in bulk", description = "Delete many spaceships in one transaction; each item gets its own result", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Bulk request processed, see per-item results", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponseDto.class)))
+    @DeleteMapping("/bulk")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<BulkOperationResponseDto> deleteSpaceships(@Parameter(description = "IDs of the spaceships to be deleted") @RequestBody List<Long> ids) {
+        long startNanos = System.nanoTime();
+        BulkOperationResponseDto response = spaceshipServiceImpl.deleteSpaceships(ids);
+        log.atInfo().setMessage("Bulk deleted spaceships")
+                .addKeyValue("endpoint", "deleteSpaceships")
+                .addKeyValue("succeeded", response.getSucceeded())
+                .addKeyValue("failed", response.getFailed())
+                .addKeyValue("durationMs", elapsedMillis(startNanos))
+                .log();
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<BulkOperationResponseDto> spaceshipsByIds(List<Long> ids) {
+        long startNanos = System.nanoTime();
+        BulkOperationResponseDto response = spaceshipServiceImpl.getSpaceshipsByIds(ids);
+        log.atInfo().setMessage("Retrieved spaceships by IDs")
+                .addKeyValue("endpoint", "getSpaceshipsByIds")
+                .addKeyValue("found", response.getSucceeded())
+                .addKeyValue("notFound", response.getFailed())
+                .addKeyValue("durationMs", elapsedMillis(startNanos))
+                .log();
+        logPayload("getSpaceshipsByIds", response.getResults());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * The generation is read before the page is loaded, so a page is never served under a newer ETag than
+     * the data it holds. Validating a list ETag therefore never reaches Postgres.
+     */
+    private String listETag() {
+        return "\"g" + spaceshipServiceImpl.getListGeneration() + "\"";
+    }
+
+    private static String spaceshipETag(SpaceshipDto spaceship) {
+        return "\"" + spaceship.getId() + "-" + spaceship.getVersion() + "\"";
+    }
+
+    private static long expectedVersion(Long id, String ifMatch) {
+        String eTag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (eTag.startsWith(prefix) && eTag.endsWith("\"") && eTag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // Falls through to the mismatch below
+            }
+        }
+        throw new SpaceshipVersionMismatchException("If-Match " + ifMatch + " is not a current ETag of spaceship " + id);
+    }
+
+    private void logSummary(String endpoint, String message, String key, Object value, long startNanos) {
+        log.atInfo().setMessage(message)
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue(key, value)
+                .addKeyValue("durationMs", elapsedMillis(startNanos))
+                .log();
+    }
+
+    /**
+     * Full payloads are only logged for the configured share of requests: rendering them on every call
+     * costs more than the request itself on list endpoints.
+     */
+    private void logPayload(String endpoint, Object payload) {
+        if (log.isInfoEnabled() && payloadLogSampler.sample(endpoint)) {
+            log.info("Sampled {} payload: {}", endpoint, payload);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
 }
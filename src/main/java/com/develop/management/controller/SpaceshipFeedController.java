@@ -0,0 +1,39 @@
+package com.develop.management.controller;
+
+import com.develop.management.exception.ErrorResponse;
+import com.develop.management.feed.SpaceshipFeedBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/spaceships")
+@RequiredArgsConstructor
+@Tag(name = "Spaceship feed API", description = "Live stream of spaceship changes")
+@ApiResponses({@ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))})
+public class SpaceshipFeedController {
+
+    private final SpaceshipFeedBroadcaster feedBroadcaster;
+
+    @Operation(summary = "Stream spaceship changes", description = "Server-sent events named CREATE, UPDATE and DELETE carrying the spaceship event. "
+            + "Reconnect with Last-Event-ID to resume; a RESET event means missed changes are no longer buffered and the client should reload", security = @SecurityRequirement(name = "BearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSpaceshipEvents(@Parameter(description = "ID of the last event received, sent automatically by EventSource on reconnect") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                            @Parameter(description = "Same as the Last-Event-ID header, for clients that cannot set headers") @RequestParam(required = false) String lastEventId) {
+        return feedBroadcaster.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
+}
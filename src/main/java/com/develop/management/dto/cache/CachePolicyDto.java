@@ -0,0 +1,27 @@
+package com.develop.management.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachePolicyDto {
+
+    private String cacheName;
+
+    private long ttlSeconds; // 0 keeps Redis entries until evicted
+
+    private long ttlJitterSeconds;
+
+    private boolean cacheNullValues;
+
+    private long negativeTtlSeconds;
+
+    private long localMaxSize;
+
+    private long localTtlSeconds;
+}
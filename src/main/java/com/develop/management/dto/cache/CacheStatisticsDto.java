@@ -0,0 +1,29 @@
+package com.develop.management.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsDto {
+
+    private String cacheName;
+
+    private long localSize;
+
+    private long localHits;
+
+    private long localMisses;
+
+    private long remoteHits;
+
+    private long remoteMisses;
+
+    private long loads;
+
+    private long coalescedLoads;
+}
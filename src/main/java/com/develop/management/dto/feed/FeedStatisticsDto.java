@@ -0,0 +1,29 @@
+package com.develop.management.dto.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedStatisticsDto {
+
+    private int subscribers;
+
+    private long pendingFrames;
+
+    private long publishedEvents;
+
+    private long droppedSubscribers;
+
+    private int replayBufferEvents;
+
+    private Map<Integer, Long> latestOffsets; // partition -> offset of the latest event fanned out
+
+    private Long heapUsedBytes; // only when requested with gc=true
+}
@@ -0,0 +1,27 @@
+package com.develop.management.dto.latency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodLatencyDto {
+
+    private String method;
+
+    private long count;
+
+    private double p50Ms;
+
+    private double p90Ms;
+
+    private double p99Ms;
+
+    private double p999Ms;
+
+    private double maxMs;
+}
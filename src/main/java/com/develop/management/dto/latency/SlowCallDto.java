@@ -0,0 +1,27 @@
+package com.develop.management.dto.latency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowCallDto {
+
+    private String method;
+
+    private double durationMs;
+
+    private Instant startedAt;
+
+    private String thread;
+
+    private String arguments;
+
+    private boolean failed;
+}
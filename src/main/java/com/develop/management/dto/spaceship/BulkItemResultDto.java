@@ -0,0 +1,25 @@
+package com.develop.management.dto.spaceship;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResultDto {
+
+    private int index; // position of the item in the request
+
+    private Long id;
+
+    private BulkItemStatus status;
+
+    private SpaceshipDto spaceship;
+
+    private List<String> errors;
+}
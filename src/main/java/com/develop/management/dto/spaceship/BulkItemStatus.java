@@ -0,0 +1,10 @@
+package com.develop.management.dto.spaceship;
+
+public enum BulkItemStatus {
+    FOUND,
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID
+}
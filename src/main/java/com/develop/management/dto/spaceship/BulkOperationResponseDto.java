@@ -0,0 +1,19 @@
+package com.develop.management.dto.spaceship;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkOperationResponseDto {
+
+    private List<BulkItemResultDto> results;
+
+    private int succeeded;
+
+    private int failed;
+}
@@ -0,0 +1,19 @@
+package com.develop.management.dto.spaceship;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CursorPageResponseDto<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private String nextCursor; // null on the last page
+}
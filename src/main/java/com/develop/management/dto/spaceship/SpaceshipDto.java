@@ -20,4 +20,6 @@ public class SpaceshipDto {
     private String type;
 
     private int crewCapacity;
+
+    private long version;
 }
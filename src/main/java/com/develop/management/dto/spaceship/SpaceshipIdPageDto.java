@@ -0,0 +1,21 @@
+package com.develop.management.dto.spaceship;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Cached form of a spaceship page: the ids in page order and the totals, without the spaceships themselves.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SpaceshipIdPageDto {
+
+    private List<Long> ids;
+
+    private long totalElements;
+
+    private int totalPages;
+}
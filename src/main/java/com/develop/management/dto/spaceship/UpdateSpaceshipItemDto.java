@@ -0,0 +1,22 @@
+package com.develop.management.dto.spaceship;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateSpaceshipItemDto {
+
+    @NotNull
+    private Long id;
+
+    @NotNull
+    @Valid
+    private CreateSpaceshipRequestDto spaceship;
+}
@@ -0,0 +1,23 @@
+package com.develop.management.dto.threads;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThreadingStatisticsDto {
+
+    private boolean virtualThreadsEnabled;
+
+    private long pinnedEvents;
+
+    private long pinnedTimeMs;
+
+    private Map<String, Long> pinnedFrames; // top application frame -> number of pinning events
+}
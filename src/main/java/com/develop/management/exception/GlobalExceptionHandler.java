@@ -1,7 +1,9 @@
 package com.develop.management.exception;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -10,41 +12,73 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import java.util.Collections;
 import java.util.List;
 
+@Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleEntityNotFoundException(EntityNotFoundException ex) {
+        log.info("EntityNotFoundException handled: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.NOT_FOUND, "Entity not found", List.of(ex.getMessage()));
     }
 
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException ex) {
+        log.info("AccessDeniedException handled: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.FORBIDDEN, "Access is denied", List.of(ex.getMessage()));
     }
 
     @ExceptionHandler(AuthorizationDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAuthorizationDeniedException(AuthorizationDeniedException ex) {
+        log.info("AuthorizationDeniedException handled: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.FORBIDDEN, "Access is denied", List.of(ex.getMessage()));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex) {
+        log.error("Exception handled in GlobalExceptionHandler: {}", ex.getMessage(), ex);
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", List.of(ex.getMessage()));
     }
 
     @ExceptionHandler(InvalidSpaceshipIdException.class)
     public ResponseEntity<ErrorResponse> handleInvalidSpaceshipIdException(InvalidSpaceshipIdException ex) {
+        log.warn("InvalidSpaceshipIdException handled: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid spaceship ID", List.of(ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        log.info("InvalidCursorException handled: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid cursor", List.of(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidBulkRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBulkRequestException(InvalidBulkRequestException ex) {
+        log.info("InvalidBulkRequestException handled: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, "Invalid bulk request", List.of(ex.getMessage()));
+    }
+
+    @ExceptionHandler(SpaceshipVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleSpaceshipVersionMismatchException(SpaceshipVersionMismatchException ex) {
+        log.info("SpaceshipVersionMismatchException handled: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.PRECONDITION_FAILED, "Spaceship was modified", List.of(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        log.info("ObjectOptimisticLockingFailureException handled: {}", ex.getMessage());
+        return buildErrorResponse(HttpStatus.CONFLICT, "Spaceship was modified concurrently, retry the request", List.of(ex.getMessage()));
+    }
+
     @ExceptionHandler(AuthenticationException.class)
     public ResponseEntity<ErrorResponse> handleAuthenticationException(AuthenticationException ex) {
+        log.info("AuthenticationException handled: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Unauthorized: ", List.of(ex.getMessage()));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
+        log.info("Validation failed with errors: {}", ex.getMessage());
         return buildErrorResponse(HttpStatus.BAD_REQUEST, "Request body is not valid", List.of(ex.getMessage()));
     }
 
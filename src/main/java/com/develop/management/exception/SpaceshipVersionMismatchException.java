@@ -0,0 +1,7 @@
+package com.develop.management.exception;
+
+public class SpaceshipVersionMismatchException extends RuntimeException {
+    public SpaceshipVersionMismatchException(String message) {
+        super(message);
+    }
+}
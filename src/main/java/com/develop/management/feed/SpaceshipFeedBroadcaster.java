@@ -0,0 +1,314 @@
+package com.develop.management.feed;
+
+import com.develop.management.dto.feed.FeedStatisticsDto;
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Fans spaceship events out to SSE subscribers. Each event is serialized once into an SSE frame shared by all
+ * subscribers; every subscriber only holds a bounded queue of frames and is written to by a virtual thread while
+ * it has frames pending, so an idle connection costs no thread. A subscriber whose queue overflows is dropped
+ * rather than slowing down the others, and reconnects with {@code Last-Event-ID} to resume from the replay buffer.
+ * <p>
+ * Event ids are the Kafka offsets seen per partition ({@code "0:15,1:20,2:7"}), so they stay valid on any node.
+ */
+@Slf4j
+@Component
+public class SpaceshipFeedBroadcaster {
+
+    static final String RESET_EVENT = "RESET";
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Set<FeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<FeedEvent> replayBuffer = new ArrayDeque<>();
+    private final Map<Integer, Long> latestOffsets = new TreeMap<>();
+    private final Object publishLock = new Object();
+
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final int subscriberBufferSize;
+    private final int replayBufferSize;
+    private final long emitterTimeoutMs;
+    private final Counter publishedEvents;
+    private final Counter droppedSubscribers;
+
+    @Autowired
+    public SpaceshipFeedBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                    @Value("${spaceship-feed.subscriber-buffer-size:256}") int subscriberBufferSize,
+                                    @Value("${spaceship-feed.replay-buffer-size:1024}") int replayBufferSize,
+                                    @Value("${spaceship-feed.emitter-timeout:30m}") Duration emitterTimeout) {
+        this(objectMapper, meterRegistry, Executors.newVirtualThreadPerTaskExecutor(),
+                subscriberBufferSize, replayBufferSize, emitterTimeout);
+    }
+
+    SpaceshipFeedBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry, Executor dispatcher,
+                             int subscriberBufferSize, int replayBufferSize, Duration emitterTimeout) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.replayBufferSize = replayBufferSize;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        this.publishedEvents = Counter.builder("spaceship.feed.events")
+                .description("Spaceship events fanned out to feed subscribers")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("spaceship.feed.subscribers.dropped")
+                .description("Feed subscribers disconnected because they fell too far behind")
+                .register(meterRegistry);
+        Gauge.builder("spaceship.feed.subscribers", subscribers, Set::size)
+                .description("Open spaceship feed connections")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(emitterTimeoutMs), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        FeedSubscriber subscriber = new FeedSubscriber(emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // Replay and registration happen under the publish lock, so no event is missed or delivered twice
+        synchronized (publishLock) {
+            // Response headers are only flushed with the first write, so clients would not see the stream open before an event
+            subscriber.offer(CONNECTED);
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                for (Set<ResponseBodyEmitter.DataWithMediaType> frame : replayFrames(lastEventId)) {
+                    subscriber.offer(frame);
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    public void publish(SpaceshipEventDto event, int partition, long offset) {
+        synchronized (publishLock) {
+            latestOffsets.merge(partition, offset, Math::max);
+            FeedEvent feedEvent = new FeedEvent(partition, offset, frame(event, formatEventId(latestOffsets)));
+            if (replayBuffer.size() == replayBufferSize) {
+                replayBuffer.removeFirst();
+            }
+            replayBuffer.addLast(feedEvent);
+            offerToAll(feedEvent.frame());
+        }
+        publishedEvents.increment();
+    }
+
+    /**
+     * Keeps proxies from closing idle connections and detects clients that went away without closing them.
+     */
+    @Scheduled(fixedRateString = "${spaceship-feed.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        offerToAll(HEARTBEAT);
+    }
+
+    public FeedStatisticsDto getStatistics() {
+        int replayed;
+        Map<Integer, Long> offsets;
+        synchronized (publishLock) {
+            replayed = replayBuffer.size();
+            offsets = new TreeMap<>(latestOffsets);
+        }
+        return FeedStatisticsDto.builder()
+                .subscribers(subscribers.size())
+                .pendingFrames(subscribers.stream().mapToLong(subscriber -> subscriber.size.get()).sum())
+                .publishedEvents((long) publishedEvents.count())
+                .droppedSubscribers((long) droppedSubscribers.count())
+                .replayBufferEvents(replayed)
+                .latestOffsets(offsets)
+                .build();
+    }
+
+    private void offerToAll(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (FeedSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(frame)) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private List<Set<ResponseBodyEmitter.DataWithMediaType>> replayFrames(String lastEventId) {
+        Map<Integer, Long> seenOffsets = parseEventId(lastEventId);
+        if (seenOffsets == null || hasGap(seenOffsets)) {
+            return List.of(resetFrame());
+        }
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ArrayList<>();
+        for (FeedEvent feedEvent : replayBuffer) {
+            if (feedEvent.offset() > seenOffsets.getOrDefault(feedEvent.partition(), -1L)) {
+                frames.add(feedEvent.frame());
+            }
+        }
+        return frames.size() > subscriberBufferSize ? List.of(resetFrame()) : frames;
+    }
+
+    /**
+     * Tells a resuming client that events it missed are no longer buffered, so it has to reload the state it shows.
+     */
+    private Set<ResponseBodyEmitter.DataWithMediaType> resetFrame() {
+        String currentEventId = formatEventId(latestOffsets);
+        SseEmitter.SseEventBuilder reset = SseEmitter.event().name(RESET_EVENT).data(currentEventId);
+        return currentEventId.isEmpty() ? reset.build() : reset.id(currentEventId).build();
+    }
+
+    private boolean hasGap(Map<Integer, Long> seenOffsets) {
+        if (!latestOffsets.keySet().containsAll(seenOffsets.keySet())) {
+            // This node has not consumed that partition yet and cannot tell what the client missed
+            return true;
+        }
+        Map<Integer, Long> oldestBuffered = new HashMap<>();
+        for (FeedEvent feedEvent : replayBuffer) {
+            oldestBuffered.putIfAbsent(feedEvent.partition(), feedEvent.offset());
+        }
+        for (Map.Entry<Integer, Long> latest : latestOffsets.entrySet()) {
+            long seen = seenOffsets.getOrDefault(latest.getKey(), -1L);
+            if (seen >= latest.getValue()) {
+                continue;
+            }
+            Long oldest = oldestBuffered.get(latest.getKey());
+            if (oldest == null || oldest > seen + 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(SpaceshipEventDto event, String eventId) {
+        try {
+            return SseEmitter.event()
+                    .id(eventId)
+                    .name(event.getEventType())
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize spaceship event " + event, e);
+        }
+    }
+
+    private void drop(FeedSubscriber subscriber) {
+        int pendingFrames = subscriber.size.get();
+        if (subscriber.close()) {
+            droppedSubscribers.increment();
+            log.info("Dropped spaceship feed subscriber with {} pending events", pendingFrames);
+            // Completing waits for a send in progress, so it must not run on the publishing thread
+            dispatcher.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private void remove(FeedSubscriber subscriber) {
+        subscriber.close();
+    }
+
+    static String formatEventId(Map<Integer, Long> offsets) {
+        return offsets.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+
+    static Map<Integer, Long> parseEventId(String eventId) {
+        Map<Integer, Long> offsets = new HashMap<>();
+        try {
+            for (String position : eventId.split(",")) {
+                int separator = position.indexOf(':');
+                offsets.put(Integer.parseInt(position.substring(0, separator).trim()),
+                        Long.parseLong(position.substring(separator + 1).trim()));
+            }
+        } catch (RuntimeException e) {
+            log.debug("Ignoring malformed Last-Event-ID {}", eventId);
+            return null;
+        }
+        return Collections.unmodifiableMap(offsets);
+    }
+
+    private record FeedEvent(int partition, long offset, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+
+    private final class FeedSubscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private FeedSubscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (size.incrementAndGet() > subscriberBufferSize) {
+                size.decrementAndGet();
+                return false;
+            }
+            pending.add(frame);
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+            return true;
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while ((frame = pending.poll()) != null) {
+                    size.decrementAndGet();
+                    if (closed.get()) {
+                        return;
+                    }
+                    try {
+                        emitter.send(frame);
+                    } catch (IOException | IllegalStateException e) {
+                        // The client went away; the emitter callbacks may not fire for a broken connection
+                        close();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            pending.clear();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.develop.management.mapper;
+
+import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.model.Spaceship;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+/**
+ * Generated at compile time into plain getter/setter calls; an unmapped target field fails the build.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface SpaceshipMapper {
+
+    SpaceshipDto toDto(Spaceship spaceship);
+
+    List<SpaceshipDto> toDtos(List<Spaceship> spaceships);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Spaceship toEntity(CreateSpaceshipRequestDto spaceshipDto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(CreateSpaceshipRequestDto spaceshipDto, @MappingTarget Spaceship spaceship);
+
+    @Mapping(target = "spaceshipId", source = "spaceshipDto.id")
+    @Mapping(target = "spaceshipName", source = "spaceshipDto.name")
+    SpaceshipEventDto toEvent(String eventType, SpaceshipDto spaceshipDto);
+}
@@ -11,7 +11,8 @@ import lombok.*;
 public class Spaceship {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spaceships_seq")
+    @SequenceGenerator(name = "spaceships_seq", sequenceName = "spaceships_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,4 +28,9 @@ public class Spaceship {
     @Column(nullable = false)
     private boolean isDeleted = false;
 
+    // Optimistic lock and source of the spaceship ETag
+    @Version
+    @Column(nullable = false)
+    private long version;
+
 }
@@ -0,0 +1,45 @@
+package com.develop.management.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@RequiredArgsConstructor
+@Table(name = "spaceship_outbox")
+public class SpaceshipOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spaceship_outbox_seq")
+    @SequenceGenerator(name = "spaceship_outbox_seq", sequenceName = "spaceship_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    // Assigned by the database on insert; the relay publishes in this order, see spaceship_outbox_relay_seq.sql
+    @Column(insertable = false, updatable = false)
+    private Long relaySeq;
+
+    private Long spaceshipId;
+
+    @Column(nullable = false)
+    private String eventType;
+
+    @Column(nullable = false)
+    private String payload; // SpaceshipEventDto as JSON
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime sentAt;
+
+    // Relay attempts the broker rejected; see spaceship_outbox_failures.sql
+    @Column(nullable = false)
+    private int attempts;
+
+    private LocalDateTime failedAt;
+
+    private String lastError;
+
+}
@@ -0,0 +1,187 @@
+package com.develop.management.monitoring;
+
+import com.develop.management.dto.latency.MethodLatencyDto;
+import com.develop.management.dto.latency.SlowCallDto;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-method latency histograms fed by {@code LatencyInterceptor}. Writers only touch a wait-free HdrHistogram
+ * {@link Recorder}; the interval histograms are folded into the cumulative one when percentiles are read.
+ */
+@Slf4j
+@Component
+public class LatencyRegistry {
+
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final int MAX_ARGUMENTS_LENGTH = 200;
+    private static final int RECENT_SLOW_CALLS = 100;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final ConcurrentMap<String, MethodLatency> latencies = new ConcurrentHashMap<>();
+    private final BlockingQueue<SlowCallDto> pendingSlowCalls;
+    private final Deque<SlowCallDto> recentSlowCalls = new ArrayDeque<>(RECENT_SLOW_CALLS);
+    private final LongAdder droppedSlowCalls = new LongAdder();
+    private final long slowCallThresholdNanos;
+
+    public LatencyRegistry(@Value("${latency.slow-call.threshold:250ms}") Duration slowCallThreshold,
+                           @Value("${latency.slow-call.max-pending:1000}") int maxPendingSlowCalls) {
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.pendingSlowCalls = new ArrayBlockingQueue<>(maxPendingSlowCalls);
+    }
+
+    public MethodLatency forMethod(String method) {
+        return latencies.computeIfAbsent(method, MethodLatency::new);
+    }
+
+    public boolean isSlow(long durationNanos) {
+        return durationNanos >= slowCallThresholdNanos;
+    }
+
+    /**
+     * Queues a slow call for the next dump; drops it when the queue is full rather than slowing the caller.
+     */
+    public void recordSlowCall(String method, long durationNanos, Object[] arguments, boolean failed) {
+        SlowCallDto slowCall = SlowCallDto.builder()
+                .method(method)
+                .durationMs(durationNanos / NANOS_PER_MILLI)
+                .startedAt(Instant.now().minusNanos(durationNanos))
+                .thread(Thread.currentThread().toString())
+                .arguments(describeArguments(arguments))
+                .failed(failed)
+                .build();
+        if (!pendingSlowCalls.offer(slowCall)) {
+            droppedSlowCalls.increment();
+        }
+    }
+
+    public List<MethodLatencyDto> getLatencies() {
+        return latencies.values().stream()
+                .map(MethodLatency::snapshot)
+                .sorted(Comparator.comparing(MethodLatencyDto::getP99Ms).reversed())
+                .toList();
+    }
+
+    public List<SlowCallDto> getRecentSlowCalls() {
+        synchronized (recentSlowCalls) {
+            return List.copyOf(recentSlowCalls);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${latency.slow-call.dump-interval-ms:60000}")
+    public void dumpSlowCalls() {
+        List<SlowCallDto> slowCalls = new ArrayList<>();
+        pendingSlowCalls.drainTo(slowCalls);
+        long dropped = droppedSlowCalls.sumThenReset();
+        if (slowCalls.isEmpty() && dropped == 0) {
+            return;
+        }
+
+        log.warn("{} slow calls over {} ms since the last dump ({} dropped)",
+                slowCalls.size() + dropped, slowCallThresholdNanos / NANOS_PER_MILLI, dropped);
+        slowCalls.stream()
+                .sorted(Comparator.comparing(SlowCallDto::getDurationMs).reversed())
+                .forEach(slowCall -> log.warn("Slow call {} took {} ms on {} (failed: {}), arguments: {}",
+                        slowCall.getMethod(), slowCall.getDurationMs(), slowCall.getThread(),
+                        slowCall.isFailed(), slowCall.getArguments()));
+
+        synchronized (recentSlowCalls) {
+            for (SlowCallDto slowCall : slowCalls) {
+                if (recentSlowCalls.size() == RECENT_SLOW_CALLS) {
+                    recentSlowCalls.removeFirst();
+                }
+                recentSlowCalls.addLast(slowCall);
+            }
+        }
+    }
+
+    // Types and sizes only: values end up in logs and the admin API, and may hold emails or credentials
+    // (UserRepository.findByEmail) or thousands of DTOs that would be rendered on the caller's thread
+    static String describeArguments(Object[] arguments) {
+        if (arguments == null) {
+            return "[]";
+        }
+        StringJoiner description = new StringJoiner(", ", "[", "]");
+        for (Object argument : arguments) {
+            description.add(describe(argument));
+        }
+        return abbreviate(description.toString());
+    }
+
+    private static String describe(Object argument) {
+        if (argument == null) {
+            return "null";
+        }
+        Class<?> type = argument.getClass();
+        if (type.isArray()) {
+            return type.getComponentType().getSimpleName() + "[" + Array.getLength(argument) + "]";
+        }
+        if (argument instanceof Collection<?> collection) {
+            return type.getSimpleName() + "(" + collection.size() + ")";
+        }
+        if (argument instanceof Map<?, ?> map) {
+            return type.getSimpleName() + "(" + map.size() + ")";
+        }
+        return type.getSimpleName();
+    }
+
+    private static String abbreviate(String value) {
+        return value.length() <= MAX_ARGUMENTS_LENGTH ? value : value.substring(0, MAX_ARGUMENTS_LENGTH) + "...";
+    }
+
+    public static final class MethodLatency {
+
+        private final String method;
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram cumulative = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        private MethodLatency(String method) {
+            this.method = method;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void record(long durationNanos) {
+            recorder.recordValue(durationNanos);
+        }
+
+        // Readers are serialized here; recording threads never take this lock
+        synchronized MethodLatencyDto snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            cumulative.add(interval);
+            return MethodLatencyDto.builder()
+                    .method(method)
+                    .count(cumulative.getTotalCount())
+                    .p50Ms(cumulative.getValueAtPercentile(50) / NANOS_PER_MILLI)
+                    .p90Ms(cumulative.getValueAtPercentile(90) / NANOS_PER_MILLI)
+                    .p99Ms(cumulative.getValueAtPercentile(99) / NANOS_PER_MILLI)
+                    .p999Ms(cumulative.getValueAtPercentile(99.9) / NANOS_PER_MILLI)
+                    .maxMs(cumulative.getMaxValue() / NANOS_PER_MILLI)
+                    .build();
+        }
+    }
+}
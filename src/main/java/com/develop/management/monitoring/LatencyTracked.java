@@ -0,0 +1,17 @@
+package com.develop.management.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records the latency of every public method of the annotated bean (or of a single annotated method)
+ * into {@link LatencyRegistry}. On a repository interface it covers inherited Spring Data methods too.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface LatencyTracked {
+}
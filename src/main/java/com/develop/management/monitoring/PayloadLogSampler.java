@@ -0,0 +1,39 @@
+package com.develop.management.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a request should also log its full payload. Rates are read per endpoint from
+ * {@code request-logging.payload-sample-rate.endpoints.<endpoint>} and fall back to the default rate.
+ */
+@Component
+public class PayloadLogSampler {
+
+    static final String ENDPOINT_RATE_PREFIX = "request-logging.payload-sample-rate.endpoints.";
+
+    private final ConcurrentMap<String, Double> sampleRates = new ConcurrentHashMap<>();
+    private final Environment environment;
+    private final double defaultSampleRate;
+
+    public PayloadLogSampler(Environment environment,
+                             @Value("${request-logging.payload-sample-rate.default:0}") double defaultSampleRate) {
+        this.environment = environment;
+        this.defaultSampleRate = defaultSampleRate;
+    }
+
+    public boolean sample(String endpoint) {
+        double sampleRate = getSampleRate(endpoint);
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    public double getSampleRate(String endpoint) {
+        return sampleRates.computeIfAbsent(endpoint,
+                name -> environment.getProperty(ENDPOINT_RATE_PREFIX + name, Double.class, defaultSampleRate));
+    }
+}
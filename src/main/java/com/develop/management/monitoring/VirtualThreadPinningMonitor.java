@@ -0,0 +1,113 @@
+package com.develop.management.monitoring;
+
+import com.develop.management.dto.threads.ThreadingStatisticsDto;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams {@code jdk.VirtualThreadPinned} JFR events while virtual threads are enabled. A pinned virtual thread
+ * blocks its carrier (e.g. blocking I/O inside {@code synchronized}), which silently caps throughput at the
+ * number of carrier threads.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_TRACKED_FRAMES = 100;
+    private static final String APPLICATION_PACKAGE = "com.develop.management.";
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> pinnedFrames = new ConcurrentHashMap<>();
+
+    private final boolean virtualThreadsEnabled;
+    private final Duration threshold;
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled,
+                                       @Value("${diagnostics.virtual-thread-pinning.threshold:20ms}") Duration threshold) {
+        this.virtualThreadsEnabled = virtualThreadsEnabled;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void start() {
+        if (!virtualThreadsEnabled) {
+            return;
+        }
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Reporting virtual thread pinning longer than {}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    public ThreadingStatisticsDto getStatistics() {
+        Map<String, Long> frames = new TreeMap<>();
+        pinnedFrames.forEach((frame, count) -> frames.put(frame, count.sum()));
+        return ThreadingStatisticsDto.builder()
+                .virtualThreadsEnabled(virtualThreadsEnabled)
+                .pinnedEvents(pinnedEvents.sum())
+                .pinnedTimeMs(Duration.ofNanos(pinnedNanos.sum()).toMillis())
+                .pinnedFrames(frames)
+                .build();
+    }
+
+    void onPinned(RecordedEvent event) {
+        String frame = pinnedFrame(event.getStackTrace());
+        pinnedEvents.increment();
+        pinnedNanos.add(event.getDuration().toNanos());
+        if (pinnedFrames.size() < MAX_TRACKED_FRAMES || pinnedFrames.containsKey(frame)) {
+            pinnedFrames.computeIfAbsent(frame, key -> new LongAdder()).increment();
+        }
+        log.warn("Virtual thread pinned its carrier for {} ms at {}", event.getDuration().toMillis(), frame);
+    }
+
+    /**
+     * The first application frame says which of our code paths pinned; falls back to the top frame.
+     */
+    private static String pinnedFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return format(frame);
+            }
+        }
+        return format(stackTrace.getFrames().get(0));
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -2,6 +2,12 @@ package com.develop.management.msgbrokers;
 
 import com.develop.management.dto.spaceship.SpaceshipEventDto;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface SpaceshipProducer {
-    void sendSpaceshipEvent(SpaceshipEventDto event);
+    /**
+     * @return one future per event, in the order of the events, completed when the broker acknowledged that event
+     */
+    List<CompletableFuture<Void>> sendSpaceshipEvents(List<SpaceshipEventDto> events);
 }
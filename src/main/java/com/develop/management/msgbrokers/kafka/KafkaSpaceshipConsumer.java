@@ -1,19 +1,63 @@
 package com.develop.management.msgbrokers.kafka;
 
+import com.develop.management.config.KafkaConsumerConfig;
 import com.develop.management.dto.spaceship.SpaceshipEventDto;
 import com.develop.management.msgbrokers.SpaceshipConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class KafkaSpaceshipConsumer implements SpaceshipConsumer {
 
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(KafkaSpaceshipConsumer.class);
+
+    private final Counter consumedEvents;
+
+    public KafkaSpaceshipConsumer(MeterRegistry meterRegistry) {
+        this.consumedEvents = Counter.builder("spaceship.events.consumed")
+                .description("Spaceship events processed by the batch consumer")
+                .register(meterRegistry);
+    }
+
+    // Offsets are committed only after the whole batch went through consumeSpaceshipEvent. A failing record is
+    // reported by index, so the error handler commits the records before it and retries or dead-letters the rest
+    @KafkaListener(topics = "${kafka.topic.spaceship-events}", groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = KafkaConsumerConfig.BATCH_LISTENER_FACTORY)
+    public void consumeSpaceshipEvents(List<ConsumerRecord<String, SpaceshipEventDto>> records,
+                                       Acknowledgment acknowledgment) {
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, SpaceshipEventDto> record = records.get(i);
+            DeserializationException deserializationException = SerializationUtils.getExceptionFromHeader(
+                    record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            if (deserializationException != null) {
+                throw new BatchListenerFailedException("Unreadable spaceship event", deserializationException, i);
+            }
+            try {
+                consumeSpaceshipEvent(record.value());
+                consumedEvents.increment();
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to process spaceship event", e, i);
+            }
+        }
+        acknowledgment.acknowledge();
+        log.atDebug().setMessage("Processed spaceship events").addKeyValue("count", records.size()).log();
+    }
+
     @Override
-    @KafkaListener(topics = "${kafka.topic.spaceship-events}", groupId = "${spring.kafka.consumer.group-id}")
     public void consumeSpaceshipEvent(SpaceshipEventDto event) {
-        log.info("Received spaceship event: {}", event);
+        log.debug("Received spaceship event: {}", event);
     }
 
 }
@@ -0,0 +1,43 @@
+package com.develop.management.msgbrokers.kafka;
+
+import com.develop.management.cache.SpaceshipIdFilter;
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.feed.SpaceshipFeedBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Feeds the SSE broadcaster and the {@link SpaceshipIdFilter}. Unlike {@link KafkaSpaceshipConsumer} it uses a
+ * consumer group of its own per instance, because every node has to see every event to serve the subscribers
+ * connected to it and to keep its id filter current.
+ */
+@Service
+@RequiredArgsConstructor
+public class KafkaSpaceshipFeedListener implements ConsumerSeekAware {
+
+    private final SpaceshipFeedBroadcaster feedBroadcaster;
+    private final SpaceshipIdFilter spaceshipIdFilter;
+
+    @KafkaListener(topics = "${kafka.topic.spaceship-events}",
+            groupId = "${spaceship-feed.group-id-prefix:spaceship-feed}-${random.uuid}",
+            properties = "auto.offset.reset=latest")
+    public void onSpaceshipEvent(@Payload SpaceshipEventDto event,
+                                 @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+                                 @Header(KafkaHeaders.OFFSET) long offset) {
+        spaceshipIdFilter.onEvent(event);
+        feedBroadcaster.publish(event, partition, offset);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        spaceshipIdFilter.onFeedAssigned();
+    }
+}
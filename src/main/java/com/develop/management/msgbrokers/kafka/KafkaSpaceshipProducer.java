@@ -2,26 +2,84 @@ package com.develop.management.msgbrokers.kafka;
 
 import com.develop.management.dto.spaceship.SpaceshipEventDto;
 import com.develop.management.msgbrokers.SpaceshipProducer;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KafkaSpaceshipProducer implements SpaceshipProducer {
 
+    private static final String SEND_TIMER = "spaceship.events.send";
+    private static final String SEND_ERRORS = "spaceship.events.send.errors";
+
     @Value("${kafka.topic.spaceship-events}")
     private String spaceshipTopic;
 
     private final KafkaTemplate<String, SpaceshipEventDto> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+
+    public KafkaSpaceshipProducer(KafkaTemplate<String, SpaceshipEventDto> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.sendSuccessTimer = sendTimer(meterRegistry, "success");
+        this.sendFailureTimer = sendTimer(meterRegistry, "failure");
+    }
 
     @Override
-    public void sendSpaceshipEvent(SpaceshipEventDto event) {
-        kafkaTemplate.send(spaceshipTopic, event);
-        log.info("Sent spaceship event: {}", event);
+    public List<CompletableFuture<Void>> sendSpaceshipEvents(List<SpaceshipEventDto> events) {
+        // Sends are appended to the producer's record accumulator and leave in shared batches
+        List<CompletableFuture<Void>> sent = events.stream()
+                .map(event -> send(event).<Void>thenApply(result -> null))
+                .toList();
+        log.info("Sent {} spaceship events", events.size());
+        return sent;
+    }
+
+    // Keyed by spaceship id so all events of one spaceship land on the same partition, in order
+    private CompletableFuture<SendResult<String, SpaceshipEventDto>> send(SpaceshipEventDto event) {
+        long start = System.nanoTime();
+        return kafkaTemplate.send(spaceshipTopic, String.valueOf(event.getSpaceshipId()), event)
+                .whenComplete((result, ex) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (ex == null) {
+                        sendSuccessTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    } else {
+                        sendFailureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        Throwable cause = rootCause(ex);
+                        meterRegistry.counter(SEND_ERRORS, "exception", cause.getClass().getSimpleName())
+                                .increment();
+                        log.warn("Failed to send {} event of spaceship {}: {}",
+                                event.getEventType(), event.getSpaceshipId(), cause.toString());
+                    }
+                });
+    }
+
+    // Time from handing the record to the producer until the broker acknowledged it (or the send failed)
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder(SEND_TIMER)
+                .description("Kafka send latency of spaceship events until broker acknowledgement")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
 
 }
@@ -0,0 +1,53 @@
+package com.develop.management.msgbrokers.outbox;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.model.SpaceshipOutboxEvent;
+import com.develop.management.repository.SpaceshipOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Records spaceship events in the outbox table as part of the caller's transaction.
+ * {@link SpaceshipOutboxRelay} publishes them to the broker after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpaceshipEventOutbox {
+
+    private final SpaceshipOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(SpaceshipEventDto event) {
+        outboxRepository.flush();
+        outboxRepository.save(toOutboxEvent(event));
+    }
+
+    /**
+     * Pending spaceship changes are flushed first. Hibernate would otherwise run the outbox inserts before the
+     * spaceship updates, and the insert would take its {@code relay_seq} before this transaction holds the row lock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<SpaceshipEventDto> events) {
+        outboxRepository.flush();
+        outboxRepository.saveAll(events.stream().map(this::toOutboxEvent).toList());
+    }
+
+    private SpaceshipOutboxEvent toOutboxEvent(SpaceshipEventDto event) {
+        SpaceshipOutboxEvent outboxEvent = new SpaceshipOutboxEvent();
+        outboxEvent.setSpaceshipId(event.getSpaceshipId());
+        outboxEvent.setEventType(event.getEventType());
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize spaceship event: " + event, e);
+        }
+        return outboxEvent;
+    }
+}
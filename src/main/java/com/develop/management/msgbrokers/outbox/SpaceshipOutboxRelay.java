@@ -0,0 +1,211 @@
+package com.develop.management.msgbrokers.outbox;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.model.SpaceshipOutboxEvent;
+import com.develop.management.msgbrokers.SpaceshipProducer;
+import com.develop.management.repository.SpaceshipOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox in {@code relay_seq} order and marks rows as sent only after the broker acknowledged them,
+ * which gives at-least-once delivery. Records are keyed by spaceship id, so per-spaceship order survives
+ * partitioning.
+ * <p>
+ * A row the broker rejects outright is retried up to {@code outbox.relay.max-attempts} times and then parked with
+ * {@code failed_at}; a row whose payload cannot be read is parked at once. Parked rows are left for an operator and
+ * no longer hold back the rows behind them. Timeouts and retriable broker errors are not counted: they mean the
+ * broker is unavailable, not that the row is bad.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class SpaceshipOutboxRelay {
+
+    static final long RELAY_LOCK_KEY = 7_301_546_001L;
+
+    private final SpaceshipOutboxRepository outboxRepository;
+    private final SpaceshipProducer spaceshipProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration retention;
+    private final int maxAttempts;
+    private final AtomicLong unsentEvents = new AtomicLong();
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    public SpaceshipOutboxRelay(SpaceshipOutboxRepository outboxRepository,
+                                SpaceshipProducer spaceshipProducer,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${outbox.relay.batch-size:500}") int batchSize,
+                                @Value("${outbox.relay.send-timeout:10s}") Duration sendTimeout,
+                                @Value("${outbox.relay.retention:1d}") Duration retention,
+                                @Value("${outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.spaceshipProducer = spaceshipProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.retention = retention;
+        this.maxAttempts = maxAttempts;
+
+        // Counts of the whole table, so every node reports the same values
+        Gauge.builder("spaceship.outbox.unsent", unsentEvents, AtomicLong::get)
+                .description("Outbox events waiting to be relayed")
+                .register(meterRegistry);
+        Gauge.builder("spaceship.outbox.failed", failedEvents, AtomicLong::get)
+                .description("Outbox events parked after the broker rejected them or their payload could not be read")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed, unsent events will be retried: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup.interval-ms:3600000}")
+    public void deleteSentEvents() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+        log.info("Deleted {} sent outbox events", deleted);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.backlog.interval-ms:30000}")
+    public void refreshBacklog() {
+        try {
+            unsentEvents.set(outboxRepository.countUnsent());
+            failedEvents.set(outboxRepository.countFailed());
+        } catch (RuntimeException e) {
+            log.warn("Failed to count outbox backlog, gauges keep their last values: {}", e.getMessage());
+        }
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            if (!outboxRepository.tryAcquireRelayLock(RELAY_LOCK_KEY)) {
+                return 0;
+            }
+            List<SpaceshipOutboxEvent> batch = outboxRepository.findUnsentBatch(batchSize);
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            List<SpaceshipOutboxEvent> readable = new ArrayList<>(batch.size());
+            List<SpaceshipEventDto> events = new ArrayList<>(batch.size());
+            for (SpaceshipOutboxEvent outboxEvent : batch) {
+                try {
+                    events.add(toEvent(outboxEvent));
+                    readable.add(outboxEvent);
+                } catch (IllegalStateException e) {
+                    // Retrying cannot make the payload readable
+                    recordFailure(outboxEvent, 1, e);
+                }
+            }
+            if (!events.isEmpty()) {
+                publish(readable, events);
+            }
+            return batch.size();
+        });
+        return relayed == null ? 0 : relayed;
+    }
+
+    private void publish(List<SpaceshipOutboxEvent> batch, List<SpaceshipEventDto> events) {
+        List<CompletableFuture<Void>> sent = spaceshipProducer.sendSpaceshipEvents(events);
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        Map<SpaceshipOutboxEvent, Throwable> rejected = new LinkedHashMap<>();
+        Throwable unavailable = null;
+        for (int i = 0; i < batch.size(); i++) {
+            Throwable failure = awaitAcknowledgement(sent.get(i), deadline);
+            if (failure == null) {
+                sentIds.add(batch.get(i).getId());
+            } else if (failure instanceof TimeoutException || failure instanceof RetriableException) {
+                unavailable = failure;
+            } else {
+                rejected.put(batch.get(i), failure);
+            }
+        }
+        if (sentIds.isEmpty() && rejected.isEmpty()) {
+            throw new IllegalStateException("Broker did not acknowledge the outbox batch", unavailable);
+        }
+        if (!sentIds.isEmpty()) {
+            outboxRepository.markSent(sentIds);
+        }
+        rejected.forEach((outboxEvent, failure) -> recordFailure(outboxEvent, maxAttempts, failure));
+    }
+
+    private Throwable awaitAcknowledgement(CompletableFuture<Void> sent, long deadline) {
+        try {
+            sent.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the broker", e);
+        } catch (ExecutionException e) {
+            return rootCause(e);
+        } catch (TimeoutException e) {
+            return e;
+        }
+    }
+
+    private void recordFailure(SpaceshipOutboxEvent outboxEvent, int maxAttempts, Throwable failure) {
+        outboxRepository.recordFailedAttempt(outboxEvent.getId(), maxAttempts, failure.toString());
+        int attempts = outboxEvent.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            log.error("Parked outbox event {} of spaceship {} after {} attempts: {}",
+                    outboxEvent.getId(), outboxEvent.getSpaceshipId(), attempts, failure.toString());
+        } else {
+            log.warn("Broker rejected outbox event {} of spaceship {}, attempt {} of {}: {}",
+                    outboxEvent.getId(), outboxEvent.getSpaceshipId(), attempts, maxAttempts, failure.toString());
+        }
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private SpaceshipEventDto toEvent(SpaceshipOutboxEvent outboxEvent) {
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), SpaceshipEventDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted outbox event " + outboxEvent.getId(), e);
+        }
+    }
+}
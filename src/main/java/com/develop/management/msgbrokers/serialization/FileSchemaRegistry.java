@@ -0,0 +1,82 @@
+package com.develop.management.msgbrokers.serialization;
+
+import org.apache.avro.Schema;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in for a schema registry: Avro schemas are read from {@code <subject>-v<version>.avsc} files under a
+ * resource location, and the version doubles as the schema id written in front of every message. Registries are
+ * shared per location because Kafka creates a serializer per producer and a deserializer per consumer thread.
+ */
+public final class FileSchemaRegistry {
+
+    public static final String DEFAULT_LOCATION = "classpath:avro/";
+
+    private static final Pattern SCHEMA_FILE = Pattern.compile("(.+)-v(\\d+)\\.avsc");
+    private static final ConcurrentMap<String, FileSchemaRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    private final Map<String, NavigableMap<Integer, Schema>> schemas;
+
+    private FileSchemaRegistry(Map<String, NavigableMap<Integer, Schema>> schemas) {
+        this.schemas = schemas;
+    }
+
+    public static FileSchemaRegistry forLocation(String location) {
+        return REGISTRIES.computeIfAbsent(location, FileSchemaRegistry::load);
+    }
+
+    public int latestVersion(String subject) {
+        return versions(subject).lastKey();
+    }
+
+    public Schema schema(String subject, int version) {
+        Schema schema = versions(subject).get(version);
+        if (schema == null) {
+            throw new IllegalArgumentException("Unknown version " + version + " of schema " + subject);
+        }
+        return schema;
+    }
+
+    private NavigableMap<Integer, Schema> versions(String subject) {
+        NavigableMap<Integer, Schema> versions = schemas.get(subject);
+        if (versions == null) {
+            throw new IllegalArgumentException("No schema registered for " + subject);
+        }
+        return versions;
+    }
+
+    private static FileSchemaRegistry load(String location) {
+        String base = location.endsWith("/") ? location : location + "/";
+        Map<String, NavigableMap<Integer, Schema>> schemas = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(base + "*.avsc")) {
+                Matcher matcher = SCHEMA_FILE.matcher(resource.getFilename());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                try (InputStream in = resource.getInputStream()) {
+                    schemas.computeIfAbsent(matcher.group(1), subject -> new TreeMap<>())
+                            .put(Integer.parseInt(matcher.group(2)), new Schema.Parser().parse(in));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load Avro schemas from " + location, e);
+        }
+        schemas.replaceAll((subject, versions) -> Collections.unmodifiableNavigableMap(versions));
+        return new FileSchemaRegistry(Map.copyOf(schemas));
+    }
+}
@@ -0,0 +1,58 @@
+package com.develop.management.msgbrokers.serialization;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.util.Map;
+
+/**
+ * Wire format shared by the Avro serializer and deserializer: a zero magic byte, the 4-byte schema version and the
+ * Avro binary body, the same layout a Confluent-style registry uses with its schema ids.
+ */
+final class SpaceshipEventAvro {
+
+    static final String SUBJECT = "spaceship-event";
+    static final String SCHEMA_REGISTRY_LOCATION_CONFIG = "spaceship.schema-registry.location";
+    static final byte MAGIC_BYTE = 0;
+    static final int HEADER_LENGTH = 5;
+
+    private SpaceshipEventAvro() {
+    }
+
+    static FileSchemaRegistry registry(Map<String, ?> configs) {
+        Object location = configs.get(SCHEMA_REGISTRY_LOCATION_CONFIG);
+        return FileSchemaRegistry.forLocation(location != null ? location.toString() : FileSchemaRegistry.DEFAULT_LOCATION);
+    }
+
+    static boolean isAvro(byte[] data) {
+        return data.length >= HEADER_LENGTH && data[0] == MAGIC_BYTE;
+    }
+
+    static GenericRecord toRecord(Schema schema, SpaceshipEventDto event) {
+        GenericData.Record record = new GenericData.Record(schema);
+        record.put("eventType", event.getEventType());
+        record.put("spaceshipId", event.getSpaceshipId());
+        record.put("spaceshipName", event.getSpaceshipName());
+        record.put("crewCapacity", event.getCrewCapacity());
+        record.put("type", event.getType());
+        record.put("seriesOrMovie", event.getSeriesOrMovie());
+        return record;
+    }
+
+    static SpaceshipEventDto fromRecord(GenericRecord record) {
+        return SpaceshipEventDto.builder()
+                .eventType(string(record.get("eventType")))
+                .spaceshipId((Long) record.get("spaceshipId"))
+                .spaceshipName(string(record.get("spaceshipName")))
+                .crewCapacity((Integer) record.get("crewCapacity"))
+                .type(string(record.get("type")))
+                .seriesOrMovie(string(record.get("seriesOrMovie")))
+                .build();
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
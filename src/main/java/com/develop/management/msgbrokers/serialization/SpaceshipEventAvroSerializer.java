@@ -0,0 +1,58 @@
+package com.develop.management.msgbrokers.serialization;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes spaceship events with the latest {@code spaceship-event} schema of the {@link FileSchemaRegistry}.
+ * Unlike {@code JsonSerializer} it adds no type headers; the schema version in the payload is all a reader needs.
+ */
+public class SpaceshipEventAvroSerializer implements Serializer<SpaceshipEventDto> {
+
+    private int version;
+    private Schema schema;
+    private GenericDatumWriter<GenericRecord> writer;
+
+    public SpaceshipEventAvroSerializer() {
+        configure(Map.of(), false);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        FileSchemaRegistry registry = SpaceshipEventAvro.registry(configs);
+        version = registry.latestVersion(SpaceshipEventAvro.SUBJECT);
+        schema = registry.schema(SpaceshipEventAvro.SUBJECT, version);
+        writer = new GenericDatumWriter<>(schema);
+    }
+
+    @Override
+    public byte[] serialize(String topic, SpaceshipEventDto event) {
+        if (event == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(SpaceshipEventAvro.MAGIC_BYTE);
+        out.write(version >>> 24);
+        out.write(version >>> 16);
+        out.write(version >>> 8);
+        out.write(version);
+        try {
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(SpaceshipEventAvro.toRecord(schema, event), encoder);
+            encoder.flush();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to write spaceship event as Avro", e);
+        }
+        return out.toByteArray();
+    }
+}
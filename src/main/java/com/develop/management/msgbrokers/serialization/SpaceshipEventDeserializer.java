@@ -0,0 +1,80 @@
+package com.develop.management.msgbrokers.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads both encodings that can be on the topic: Avro events (magic byte 0, resolved from the writer's schema
+ * version to the latest one) and JSON events from producers still on {@code JsonSerializer}, which are handed to
+ * a {@link JsonDeserializer} configured with the same {@code spring.json.*} properties as before.
+ */
+public class SpaceshipEventDeserializer implements Deserializer<Object> {
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+    private final ConcurrentMap<Integer, GenericDatumReader<GenericRecord>> readers = new ConcurrentHashMap<>();
+    private FileSchemaRegistry registry;
+    private Schema readerSchema;
+
+    public SpaceshipEventDeserializer() {
+        configureAvro(Map.of());
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+        configureAvro(configs);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return SpaceshipEventAvro.isAvro(data) ? readAvro(data) : jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return SpaceshipEventAvro.isAvro(data) ? readAvro(data) : jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    private void configureAvro(Map<String, ?> configs) {
+        registry = SpaceshipEventAvro.registry(configs);
+        readerSchema = registry.schema(SpaceshipEventAvro.SUBJECT, registry.latestVersion(SpaceshipEventAvro.SUBJECT));
+        readers.clear();
+    }
+
+    private Object readAvro(byte[] data) {
+        int version = ByteBuffer.wrap(data, 1, 4).getInt();
+        try {
+            GenericDatumReader<GenericRecord> reader = readers.computeIfAbsent(version,
+                    writerVersion -> new GenericDatumReader<>(
+                            registry.schema(SpaceshipEventAvro.SUBJECT, writerVersion), readerSchema));
+            GenericRecord record = reader.read(null, DecoderFactory.get().binaryDecoder(
+                    data, SpaceshipEventAvro.HEADER_LENGTH, data.length - SpaceshipEventAvro.HEADER_LENGTH, null));
+            return SpaceshipEventAvro.fromRecord(record);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Failed to read Avro spaceship event of schema version " + version, e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.develop.management.msgbrokers.serialization;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/** Value encodings the producer can write; {@link SpaceshipEventDeserializer} reads all of them. */
+@Getter
+@RequiredArgsConstructor
+public enum SpaceshipEventFormat {
+
+    JSON(JsonSerializer.class),
+    AVRO(SpaceshipEventAvroSerializer.class);
+
+    @SuppressWarnings("rawtypes")
+    private final Class<? extends Serializer> serializer;
+}
@@ -0,0 +1,46 @@
+package com.develop.management.repository;
+
+import com.develop.management.model.SpaceshipOutboxEvent;
+import com.develop.management.monitoring.LatencyTracked;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@LatencyTracked
+public interface SpaceshipOutboxRepository extends JpaRepository<SpaceshipOutboxEvent, Long> {
+
+    // Transaction-scoped advisory lock: one relay drains at a time, so batches are published in relay_seq order
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryAcquireRelayLock(long lockKey);
+
+    @Query(value = "SELECT * FROM spaceship_outbox WHERE sent_at IS NULL AND failed_at IS NULL " +
+            "ORDER BY relay_seq LIMIT :limit", nativeQuery = true)
+    List<SpaceshipOutboxEvent> findUnsentBatch(int limit);
+
+    @Modifying
+    @Query(value = "UPDATE spaceship_outbox SET sent_at = now() WHERE id IN (:ids)", nativeQuery = true)
+    void markSent(Collection<Long> ids);
+
+    // Parks the row once it has used up its attempts, so it no longer comes back in findUnsentBatch
+    @Modifying
+    @Query(value = "UPDATE spaceship_outbox SET attempts = attempts + 1, last_error = :error, " +
+            "failed_at = CASE WHEN attempts + 1 >= :maxAttempts THEN now() END WHERE id = :id", nativeQuery = true)
+    void recordFailedAttempt(long id, int maxAttempts, String error);
+
+    @Query(value = "SELECT count(*) FROM spaceship_outbox WHERE sent_at IS NULL AND failed_at IS NULL", nativeQuery = true)
+    long countUnsent();
+
+    @Query(value = "SELECT count(*) FROM spaceship_outbox WHERE failed_at IS NOT NULL", nativeQuery = true)
+    long countFailed();
+
+    @Modifying
+    @Query(value = "DELETE FROM spaceship_outbox WHERE sent_at < :sentBefore", nativeQuery = true)
+    int deleteSentBefore(LocalDateTime sentBefore);
+
+}
@@ -1,6 +1,7 @@
 package com.develop.management.repository;
 
 import com.develop.management.model.Spaceship;
+import com.develop.management.monitoring.LatencyTracked;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,23 +9,43 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
+@LatencyTracked
 public interface SpaceshipRepository extends JpaRepository<Spaceship, Long> {
 
-    @Query(value = "SELECT * FROM spaceships WHERE is_deleted = false AND name LIKE CONCAT('%', :name, '%')", nativeQuery = true)
-    List<Spaceship> findByNameContaining(String name);
+    // Served by the pg_trgm GIN index on name; best matches first, id keeps the order stable between pages
+    @Query(value = "SELECT * FROM spaceships WHERE is_deleted = false AND name LIKE CONCAT('%', :name, '%') " +
+            "ORDER BY similarity(name, :name) DESC, id", nativeQuery = true)
+    List<Spaceship> findByNameContaining(String name, Pageable pageable);
 
     @Query(value = "SELECT * FROM spaceships WHERE id = :id AND is_deleted = false", nativeQuery = true)
     Optional<Spaceship> findById(Long id);
 
+    @Query(value = "SELECT * FROM spaceships WHERE id IN (:ids) AND is_deleted = false", nativeQuery = true)
+    List<Spaceship> findAllActiveByIds(Collection<Long> ids);
+
     @Modifying
-    @Query(value = "UPDATE spaceships SET is_deleted = true WHERE id = :id", nativeQuery = true)
+    @Query(value = "UPDATE spaceships SET is_deleted = true, version = version + 1 WHERE id = :id", nativeQuery = true)
     void deleteById(Long id);
 
+    @Modifying
+    @Query(value = "UPDATE spaceships SET is_deleted = true, version = version + 1 WHERE id IN (:ids)", nativeQuery = true)
+    void deleteAllByIds(Collection<Long> ids);
+
     @Query(value = "SELECT * FROM spaceships WHERE is_deleted = false", nativeQuery = true)
     Page<Spaceship> getAllSpaceships(Pageable pageable);
 
+    @Query(value = "SELECT * FROM spaceships WHERE is_deleted = false AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Spaceship> findPageAfterId(long afterId, int limit);
+
+    @Query(value = "SELECT id FROM spaceships WHERE is_deleted = false AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findActiveIdsAfter(long afterId, int limit);
+
+    @Query(value = "SELECT * FROM spaceships WHERE is_deleted = false AND (name, id) > (:afterName, :afterId) ORDER BY name, id LIMIT :limit", nativeQuery = true)
+    List<Spaceship> findPageAfterName(String afterName, long afterId, int limit);
+
 }
@@ -0,0 +1,12 @@
+package com.develop.management.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a verified token, extracted once and reused for the rest of the request.
+ */
+public record JwtPrincipal(String username, List<SimpleGrantedAuthority> authorities, Instant expiresAt) {
+}
@@ -1,29 +1,51 @@
 package com.develop.management.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
+@Slf4j
 @Component
 public class JwtUtils {
 
     private final SecretKey jwtSecret;
+    private final JwtParser jwtParser; // immutable and thread-safe, built once
+    private final Cache<String, JwtPrincipal> verifiedTokens;
 
     @Value("${jwt.expiration.ms:86400000}")
     private int jwtExpirationMs; // 1 day (default)
 
-    public JwtUtils(@Value("${jwt.secret}") String secretString) {
+    public JwtUtils(@Value("${jwt.secret}") String secretString,
+                    @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
         this.jwtSecret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(jwtSecret)
+                .build();
+        // Entries live exactly until the token's own expiration
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     public String generateJwtToken(String username, List<String> roles) {
@@ -36,37 +58,81 @@ public class JwtUtils {
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns its principal; repeated calls with the same token are served from
+     * the cache of verified tokens until the token expires.
+     */
+    public Optional<JwtPrincipal> parseToken(String token) {
+        String tokenHash = hash(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            JwtPrincipal principal = toPrincipal(jwtParser.parseClaimsJws(token).getBody());
+            verifiedTokens.put(tokenHash, principal);
+            return Optional.of(principal);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("Invalid JWT Token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     public String getUsernameFromJwtToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getSubject();
+        return parseToken(token)
+                .map(JwtPrincipal::username)
+                .orElse(null);
     }
 
     public List<SimpleGrantedAuthority> getAuthoritiesFromJwtToken(String token) {
-        Claims claims = parseClaims(token);
+        return parseToken(token)
+                .map(JwtPrincipal::authorities)
+                .orElse(List.of());
+    }
+
+    public boolean validateJwtToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private JwtPrincipal toPrincipal(Claims claims) {
         List<String> roles = claims.get("roles", List.class);
-        return roles.stream()
+        List<SimpleGrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
                 .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+                .toList();
+        Instant expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().toInstant()
+                : Instant.now().plusMillis(jwtExpirationMs);
+        return new JwtPrincipal(claims.getSubject(), authorities, expiresAt);
     }
 
-    public boolean validateJwtToken(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtSecret)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            System.out.println("Invalid JWT Token: " + e.getMessage());
+    private static final class TokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, JwtPrincipal principal, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, JwtPrincipal principal, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtSecret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
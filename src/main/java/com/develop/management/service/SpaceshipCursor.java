@@ -0,0 +1,58 @@
+package com.develop.management.service;
+
+import com.develop.management.exception.InvalidCursorException;
+import com.develop.management.model.Spaceship;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Position of the last row of a keyset page: the sort key value and the id used as tie-breaker.
+ * Clients only ever see the Base64 form, so the layout can change behind the version prefix.
+ */
+record SpaceshipCursor(SortKey sortKey, long id, String value) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    enum SortKey {
+        ID,
+        NAME;
+
+        static SortKey parse(String sort) {
+            try {
+                return valueOf(sort.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new InvalidCursorException("Unsupported sort key for cursor pagination: " + sort);
+            }
+        }
+    }
+
+    static SpaceshipCursor first(SortKey sortKey) {
+        return new SpaceshipCursor(sortKey, 0L, "");
+    }
+
+    static SpaceshipCursor after(SortKey sortKey, Spaceship spaceship) {
+        String value = sortKey == SortKey.NAME ? spaceship.getName() : "";
+        return new SpaceshipCursor(sortKey, spaceship.getId(), value);
+    }
+
+    String encode() {
+        String raw = VERSION + SEPARATOR + sortKey.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SpaceshipCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Malformed cursor: " + cursor);
+            }
+            return new SpaceshipCursor(SortKey.valueOf(parts[1]), Long.parseLong(parts[2]), parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor: " + cursor);
+        }
+    }
+}
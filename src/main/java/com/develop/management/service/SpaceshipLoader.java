@@ -0,0 +1,73 @@
+package com.develop.management.service;
+
+import com.develop.management.cache.BatchedCacheLoader;
+import com.develop.management.cache.TwoLevelCacheManager;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.mapper.SpaceshipMapper;
+import com.develop.management.model.Spaceship;
+import com.develop.management.repository.SpaceshipRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Read-through access to the {@code spaceship} cache. Concurrent misses of different ids are collected for
+ * {@code spaceship-loader.window} and answered by one Redis multi-get and one {@code IN} query, instead of a
+ * Redis round trip and a {@code findById} each.
+ */
+@Component
+public class SpaceshipLoader implements AutoCloseable {
+
+    private final SpaceshipRepository spaceshipRepository;
+    private final SpaceshipMapper spaceshipMapper;
+    private final BatchedCacheLoader<Long, SpaceshipDto> loader;
+
+    public SpaceshipLoader(TwoLevelCacheManager cacheManager, SpaceshipRepository spaceshipRepository,
+                           SpaceshipMapper spaceshipMapper, MeterRegistry meterRegistry,
+                           @Value("${spaceship-loader.window:500us}") Duration window,
+                           @Value("${spaceship-loader.max-batch-size:256}") int maxBatchSize) {
+        this.spaceshipRepository = spaceshipRepository;
+        this.spaceshipMapper = spaceshipMapper;
+        this.loader = new BatchedCacheLoader<>(cacheManager.getCache("spaceship"), this::loadFromDatabase, window,
+                maxBatchSize);
+
+        FunctionCounter.builder("spaceship.loader.batches", loader, BatchedCacheLoader::getBatches)
+                .description("Batches of spaceship cache misses looked up in Redis and Postgres")
+                .register(meterRegistry);
+        FunctionCounter.builder("spaceship.loader.keys", loader, BatchedCacheLoader::getBatchedKeys)
+                .description("Spaceship ids in those batches; divided by the batches, the mean batch size")
+                .register(meterRegistry);
+    }
+
+    public Optional<SpaceshipDto> load(long id) {
+        return Optional.ofNullable(loader.load(id));
+    }
+
+    /**
+     * @return the spaceship of every id in iteration order, {@code null} for ids that do not exist
+     */
+    public Map<Long, SpaceshipDto> loadAll(Collection<Long> ids) {
+        return loader.loadAll(ids);
+    }
+
+    @Override
+    public void close() {
+        loader.close();
+    }
+
+    private Map<Long, SpaceshipDto> loadFromDatabase(Set<Long> ids) {
+        Map<Long, SpaceshipDto> spaceships = new HashMap<>();
+        for (Spaceship spaceship : spaceshipRepository.findAllActiveByIds(ids)) {
+            spaceships.put(spaceship.getId(), spaceshipMapper.toDto(spaceship));
+        }
+        return spaceships;
+    }
+}
@@ -1,25 +1,37 @@
 package com.develop.management.service;
 
-import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
-import com.develop.management.dto.spaceship.PageResponseDto;
-import com.develop.management.dto.spaceship.SpaceshipDto;
-import com.develop.management.dto.spaceship.SpaceshipsDataDto;
+import com.develop.management.dto.spaceship.*;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SpaceshipService {
 
     PageResponseDto<SpaceshipDto> getAllSpaceships(Pageable pageable);
 
+    CursorPageResponseDto<SpaceshipDto> getSpaceshipsAfter(String after, int size, String sort);
+
     Optional<SpaceshipDto> getSpaceshipById(Long id);
 
-    SpaceshipsDataDto searchSpaceshipsByName(String name);
+    BulkOperationResponseDto getSpaceshipsByIds(List<Long> ids);
+
+    SpaceshipsDataDto searchSpaceshipsByName(String name, Pageable pageable);
 
     SpaceshipDto createSpaceship(CreateSpaceshipRequestDto spaceshipDto);
 
     SpaceshipDto updateSpaceship(Long id, CreateSpaceshipRequestDto spaceshipDto);
 
+    SpaceshipDto updateSpaceship(Long id, CreateSpaceshipRequestDto spaceshipDto, Long expectedVersion);
+
     void deleteSpaceship(Long id);
 
+    BulkOperationResponseDto createSpaceships(List<CreateSpaceshipRequestDto> spaceshipDtos);
+
+    BulkOperationResponseDto updateSpaceships(List<UpdateSpaceshipItemDto> items);
+
+    BulkOperationResponseDto deleteSpaceships(List<Long> ids);
+
+    long getListGeneration();
+
 }
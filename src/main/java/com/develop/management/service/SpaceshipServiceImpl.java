@@ -1,59 +1,173 @@
 package com.develop.management.service;
 
+import com.develop.management.cache.CacheGenerationService;
+import com.develop.management.cache.PageOrderGenerations;
+import com.develop.management.cache.SpaceshipIdFilter;
+import com.develop.management.cache.TwoLevelCache;
+import com.develop.management.cache.TwoLevelCacheManager;
 import com.develop.management.dto.spaceship.*;
-import com.develop.management.exception.EntityNotFoundException;
+import com.develop.management.exception.InvalidBulkRequestException;
+import com.develop.management.exception.InvalidCursorException;
 import com.develop.management.exception.InvalidSpaceshipIdException;
+import com.develop.management.exception.SpaceshipVersionMismatchException;
+import com.develop.management.mapper.SpaceshipMapper;
 import com.develop.management.model.Spaceship;
-import com.develop.management.msgbrokers.kafka.KafkaSpaceshipProducer;
+import com.develop.management.monitoring.LatencyTracked;
+import com.develop.management.msgbrokers.outbox.SpaceshipEventOutbox;
 import com.develop.management.repository.SpaceshipRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
+@LatencyTracked
 @RequiredArgsConstructor
 public class SpaceshipServiceImpl implements SpaceshipService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+    private static final int MAX_BULK_ITEMS = 1000;
+
     private final SpaceshipRepository spaceshipRepository;
-    private final ObjectMapper objectMapper;
-    private final KafkaSpaceshipProducer kafkaSpaceshipProducer;
+    private final SpaceshipMapper spaceshipMapper;
+    private final SpaceshipEventOutbox spaceshipEventOutbox;
+    private final CacheGenerationService cacheGenerationService;
+    private final PageOrderGenerations pageOrderGenerations;
+    private final TwoLevelCacheManager cacheManager;
+    private final SpaceshipIdFilter spaceshipIdFilter;
+    private final SpaceshipLoader spaceshipLoader;
+    private final Validator validator;
 
-    @Cacheable(value = "spaceships", key = "'page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize + ':sort:' + #pageable.sort.toString()")
+    /**
+     * The {@code spaceships} cache holds only the ids and totals of a page, keyed by the {@link PageOrderGenerations}
+     * of its sort. The spaceships are resolved from the {@code spaceship} cache with one multi-get, so a spaceship is
+     * cached once however many pages show it, and an update that leaves the sort fields alone only replaces its own
+     * entry.
+     */
     public PageResponseDto<SpaceshipDto> getAllSpaceships(Pageable pageable) {
+        // Ties are broken by id, otherwise Postgres may return them in a different order after any update
+        Sort sort = pageable.getSort().getOrderFor("id") == null ? pageable.getSort().and(Sort.by("id")) : pageable.getSort();
+        Pageable orderedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        String key = "order:" + pageOrderGenerations.current(sort) + ":page:" + pageable.getPageNumber()
+                + ":size:" + pageable.getPageSize() + ":sort:" + sort;
+        SpaceshipIdPageDto idPage = cacheManager.getCache("spaceships").get(key, () -> loadIdPage(orderedPageable));
+
+        Map<Long, SpaceshipDto> spaceships = idPage.getIds().isEmpty() ? Collections.emptyMap() : spaceshipLoader.loadAll(idPage.getIds());
+        // An id deleted after the page was cached resolves to null until the page is reloaded
+        List<SpaceshipDto> spaceshipDtos = idPage.getIds().stream().map(spaceships::get).filter(Objects::nonNull).toList();
+        return new PageResponseDto<>(spaceshipDtos, pageable.getPageNumber(), pageable.getPageSize(),
+                idPage.getTotalElements(), idPage.getTotalPages());
+    }
+
+    private SpaceshipIdPageDto loadIdPage(Pageable pageable) {
         Page<Spaceship> spaceships = spaceshipRepository.getAllSpaceships(pageable);
-        List<SpaceshipDto> spaceshipDtos = spaceships.getContent().stream()
-                .map(this::convertToDto)
-                .toList();
+        Map<Long, SpaceshipDto> spaceshipDtos = new LinkedHashMap<>();
+        spaceshipMapper.toDtos(spaceships.getContent()).forEach(spaceship -> spaceshipDtos.put(spaceship.getId(), spaceship));
+        // The rows are at hand already, so resolving the ids right after this load finds them cached. An entry that is
+        // cached already may be newer than this read and stays
+        cacheManager.getCache("spaceship").putAllIfAbsent(spaceshipDtos);
+        return new SpaceshipIdPageDto(new ArrayList<>(spaceshipDtos.keySet()), spaceships.getTotalElements(),
+                spaceships.getTotalPages());
+    }
+
+    @Cacheable(value = "spaceships", key = "'gen:' + @cacheGenerationService.current() + ':cursor:' + #sort + ':' + #after + ':size:' + #size", sync = true)
+    public CursorPageResponseDto<SpaceshipDto> getSpaceshipsAfter(String after, int size, String sort) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidCursorException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE + ", size: " + size);
+        }
+        SpaceshipCursor.SortKey sortKey = SpaceshipCursor.SortKey.parse(sort);
+        SpaceshipCursor cursor = after == null || after.isBlank() ? SpaceshipCursor.first(sortKey) : SpaceshipCursor.decode(after);
+        if (cursor.sortKey() != sortKey) {
+            throw new InvalidCursorException("Cursor was issued for sort '" + cursor.sortKey() + "', not '" + sortKey + "'");
+        }
+
+        // One extra row tells whether another page exists without a count(*) query
+        List<Spaceship> spaceships = switch (sortKey) {
+            case ID -> spaceshipRepository.findPageAfterId(cursor.id(), size + 1);
+            case NAME -> spaceshipRepository.findPageAfterName(cursor.value(), cursor.id(), size + 1);
+        };
+        boolean hasNext = spaceships.size() > size;
+        List<Spaceship> page = hasNext ? spaceships.subList(0, size) : spaceships;
 
-        return new PageResponseDto<>(spaceshipDtos, spaceships.getNumber(), spaceships.getSize(),
-                spaceships.getTotalElements(), spaceships.getTotalPages());
+        return CursorPageResponseDto.<SpaceshipDto>builder()
+                .content(spaceshipMapper.toDtos(page))
+                .size(size)
+                .nextCursor(hasNext ? SpaceshipCursor.after(sortKey, page.get(page.size() - 1)).encode() : null)
+                .build();
     }
 
-    @Cacheable(value = "spaceship", key = "#id")
+    /**
+     * Ids the {@link SpaceshipIdFilter} knows to be absent skip the cache and the database. Any other id goes through
+     * the {@code spaceship} cache, which batches concurrent misses; an id that is not found is cached as empty for
+     * the {@code negative-ttl} of that cache.
+     */
     public Optional<SpaceshipDto> getSpaceshipById(Long id) {
         if (id < 0) {
             throw new InvalidSpaceshipIdException("Spaceship ID cannot be negative, ID: " + id);
         }
+        if (!spaceshipIdFilter.check(id)) {
+            return Optional.empty();
+        }
+        Optional<SpaceshipDto> spaceship = spaceshipLoader.load(id);
+        if (spaceship.isEmpty()) {
+            spaceshipIdFilter.recordFalsePositive();
+        }
+        return spaceship;
+    }
 
-        return Optional.ofNullable(spaceshipRepository.findById(id)
-                .map(this::convertToDto)
-                .orElseThrow(() -> new EntityNotFoundException("Spaceship with ID " + id + " not found")));
+    /**
+     * Resolves many ids in request order. Cached spaceships come from one multi-get and all misses from one query,
+     * see {@link SpaceshipLoader#loadAll}.
+     */
+    public BulkOperationResponseDto getSpaceshipsByIds(List<Long> ids) {
+        checkBulkSize(ids);
+        Set<Long> lookupIds = new LinkedHashSet<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            if (id != null && id >= 0 && spaceshipIdFilter.check(id)) {
+                lookupIds.add(id);
+            }
+        }
+        Map<Long, SpaceshipDto> spaceships = lookupIds.isEmpty() ? Collections.emptyMap() : spaceshipLoader.loadAll(lookupIds);
+        for (Long id : lookupIds) {
+            if (spaceships.get(id) == null) {
+                spaceshipIdFilter.recordFalsePositive();
+            }
+        }
+
+        BulkItemResultDto[] results = new BulkItemResultDto[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            SpaceshipDto spaceship = id == null ? null : spaceships.get(id);
+            if (id == null) {
+                results[i] = failedItem(i, null, BulkItemStatus.INVALID, List.of("id must not be null"));
+            } else if (id < 0) {
+                results[i] = failedItem(i, id, BulkItemStatus.INVALID, List.of("id must not be negative"));
+            } else if (spaceship != null) {
+                results[i] = succeededItem(i, BulkItemStatus.FOUND, spaceship);
+            } else {
+                results[i] = failedItem(i, id, BulkItemStatus.NOT_FOUND, List.of("Spaceship ID not found: " + id));
+            }
+        }
+        return toBulkResponse(results);
     }
 
-    @Cacheable(value = "spaceships", key = "#name")
-    public SpaceshipsDataDto searchSpaceshipsByName(String name) {
-        List<SpaceshipDto> dtos = spaceshipRepository.findByNameContaining(name).stream()
-                .map(this::convertToDto)
-                .toList();
+    @Cacheable(value = "spaceshipSearch", key = "'gen:' + @cacheGenerationService.current() + ':search:' + #name + ':page:' + #pageable.pageNumber + ':size:' + #pageable.pageSize", sync = true)
+    public SpaceshipsDataDto searchSpaceshipsByName(String name, Pageable pageable) {
+        // Results are ordered by relevance, a client sort would only fight the trigram ranking
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        List<SpaceshipDto> dtos = spaceshipMapper.toDtos(spaceshipRepository.findByNameContaining(name, page));
 
         return SpaceshipsDataDto.builder()
                 .spaceships(dtos)
@@ -61,83 +175,300 @@ public class SpaceshipServiceImpl implements SpaceshipService {
     }
 
     @Transactional
-    @CacheEvict(value = "spaceships", allEntries = true)
+    @CacheEvict(value = "spaceship", key = "#result.id") // a lookup of the id before it existed may have cached it as empty
     public SpaceshipDto createSpaceship(CreateSpaceshipRequestDto spaceshipDto) {
-        Spaceship spaceship = convertToEntity(spaceshipDto);
+        Spaceship spaceship = spaceshipMapper.toEntity(spaceshipDto);
         Spaceship savedSpaceship = spaceshipRepository.save(spaceship);
-        SpaceshipDto result = convertToDto(savedSpaceship);
+        SpaceshipDto result = spaceshipMapper.toDto(savedSpaceship);
+        spaceshipIdFilter.add(result.getId());
+        cacheGenerationService.advance();
+        pageOrderGenerations.advance(Set.of(PageOrderGenerations.MEMBERS));
         publishEvent("CREATE", result);
         return result;
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "spaceship", key = "#id"),
-            @CacheEvict(value = "spaceships", allEntries = true)
-    })
+    @CacheEvict(value = "spaceship", key = "#id")
     public SpaceshipDto updateSpaceship(Long id, CreateSpaceshipRequestDto spaceshipDto) {
+        return update(id, spaceshipDto, null);
+    }
+
+    /**
+     * Updates the spaceship only if it is still at {@code expectedVersion}; a concurrent update that commits
+     * between this check and the flush is caught by the {@code @Version} column instead.
+     */
+    @Transactional
+    @CacheEvict(value = "spaceship", key = "#id")
+    public SpaceshipDto updateSpaceship(Long id, CreateSpaceshipRequestDto spaceshipDto, Long expectedVersion) {
+        return update(id, spaceshipDto, expectedVersion);
+    }
+
+    private SpaceshipDto update(Long id, CreateSpaceshipRequestDto spaceshipDto, Long expectedVersion) {
         if (id < 0) {
             throw new InvalidSpaceshipIdException("Spaceship ID cannot be negative, ID: " + id);
         }
 
         Spaceship existingSpaceship = spaceshipRepository.findById(id)
                 .orElseThrow(() -> new InvalidSpaceshipIdException("Spaceship ID not found: " + id));
+        if (expectedVersion != null && existingSpaceship.getVersion() != expectedVersion) {
+            throw new SpaceshipVersionMismatchException("Spaceship " + id + " is at version " + existingSpaceship.getVersion()
+                    + ", not " + expectedVersion);
+        }
 
-        updateSpaceshipEntity(existingSpaceship, spaceshipDto);
-        Spaceship updatedSpaceship = spaceshipRepository.save(existingSpaceship);
+        Map<String, Object> sortFields = sortFields(existingSpaceship);
+        spaceshipMapper.updateEntity(spaceshipDto, existingSpaceship);
+        // Flushing increments @Version, so the result and its ETag carry the version that was written
+        Spaceship updatedSpaceship = spaceshipRepository.saveAndFlush(existingSpaceship);
 
-        SpaceshipDto result = convertToDto(updatedSpaceship);
+        SpaceshipDto result = spaceshipMapper.toDto(updatedSpaceship);
+        cacheGenerationService.advance();
+        pageOrderGenerations.advance(changedPageOrders(sortFields, updatedSpaceship));
         publishEvent("UPDATE", result);
 
         return result;
     }
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "spaceship", key = "#id"),
-            @CacheEvict(value = "spaceships", allEntries = true)
-    })
+    @CacheEvict(value = "spaceship", key = "#id")
     public void deleteSpaceship(Long id) {
         if (spaceshipRepository.findById(id).isEmpty()) {
             throw new InvalidSpaceshipIdException("Spaceship ID not found: " + id);
         }
         spaceshipRepository.deleteById(id);
+        cacheGenerationService.advance();
+        pageOrderGenerations.advance(Set.of(PageOrderGenerations.MEMBERS));
 
         publishEvent("DELETE", id);
     }
 
-    private SpaceshipDto convertToDto(Spaceship spaceship) {
-        return objectMapper.convertValue(spaceship, SpaceshipDto.class);
+    @Transactional
+    public BulkOperationResponseDto createSpaceships(List<CreateSpaceshipRequestDto> spaceshipDtos) {
+        checkBulkSize(spaceshipDtos);
+        BulkItemResultDto[] results = new BulkItemResultDto[spaceshipDtos.size()];
+        List<Integer> indexes = new ArrayList<>();
+        List<Spaceship> spaceships = new ArrayList<>();
+
+        for (int i = 0; i < spaceshipDtos.size(); i++) {
+            List<String> errors = validate(spaceshipDtos.get(i));
+            if (errors.isEmpty()) {
+                indexes.add(i);
+                spaceships.add(spaceshipMapper.toEntity(spaceshipDtos.get(i)));
+            } else {
+                results[i] = failedItem(i, null, BulkItemStatus.INVALID, errors);
+            }
+        }
+
+        // Ids come from the pooled sequence, so Hibernate flushes the inserts as JDBC batches
+        List<Spaceship> savedSpaceships = spaceshipRepository.saveAll(spaceships);
+        List<Long> createdIds = new ArrayList<>(savedSpaceships.size());
+        List<SpaceshipEventDto> events = new ArrayList<>(savedSpaceships.size());
+        for (int i = 0; i < savedSpaceships.size(); i++) {
+            SpaceshipDto result = spaceshipMapper.toDto(savedSpaceships.get(i));
+            results[indexes.get(i)] = succeededItem(indexes.get(i), BulkItemStatus.CREATED, result);
+            createdIds.add(result.getId());
+            spaceshipIdFilter.add(result.getId());
+            events.add(buildEvent("CREATE", result));
+        }
+
+        // Created ids may have been cached as not found before
+        completeBulkWrite(createdIds, Set.of(PageOrderGenerations.MEMBERS), events);
+        return toBulkResponse(results);
+    }
+
+    @Transactional
+    public BulkOperationResponseDto updateSpaceships(List<UpdateSpaceshipItemDto> items) {
+        checkBulkSize(items);
+        BulkItemResultDto[] results = new BulkItemResultDto[items.size()];
+        Map<Long, Spaceship> existingSpaceships = findActiveByIds(items.stream()
+                .map(UpdateSpaceshipItemDto::getId)
+                .filter(Objects::nonNull)
+                .toList());
+        // Which of several updates of one id should win is not for us to guess, so all of them are rejected
+        Map<Long, Long> idCounts = items.stream()
+                .map(UpdateSpaceshipItemDto::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        Set<Long> updatedIds = new LinkedHashSet<>();
+        Map<Integer, Spaceship> updatedItems = new LinkedHashMap<>();
+        Set<String> changedPageOrders = new HashSet<>();
+        List<SpaceshipEventDto> events = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            UpdateSpaceshipItemDto item = items.get(i);
+            List<String> errors = validate(item);
+            if (!errors.isEmpty()) {
+                results[i] = failedItem(i, item.getId(), BulkItemStatus.INVALID, errors);
+                continue;
+            }
+            if (idCounts.get(item.getId()) > 1) {
+                results[i] = failedItem(i, item.getId(), BulkItemStatus.INVALID, List.of("id is repeated in the request"));
+                continue;
+            }
+            Spaceship existingSpaceship = existingSpaceships.get(item.getId());
+            if (existingSpaceship == null) {
+                results[i] = failedItem(i, item.getId(), BulkItemStatus.NOT_FOUND, List.of("Spaceship ID not found: " + item.getId()));
+                continue;
+            }
+            Map<String, Object> sortFields = sortFields(existingSpaceship);
+            spaceshipMapper.updateEntity(item.getSpaceship(), existingSpaceship);
+            changedPageOrders.addAll(changedPageOrders(sortFields, existingSpaceship));
+            updatedIds.add(item.getId());
+            updatedItems.put(i, existingSpaceship);
+        }
+
+        // Results are built after the flush has incremented @Version
+        spaceshipRepository.saveAllAndFlush(updatedIds.stream().map(existingSpaceships::get).toList());
+        updatedItems.forEach((index, spaceship) -> {
+            SpaceshipDto result = spaceshipMapper.toDto(spaceship);
+            results[index] = succeededItem(index, BulkItemStatus.UPDATED, result);
+            events.add(buildEvent("UPDATE", result));
+        });
+        completeBulkWrite(updatedIds, changedPageOrders, events);
+        return toBulkResponse(results);
+    }
+
+    @Transactional
+    public BulkOperationResponseDto deleteSpaceships(List<Long> ids) {
+        checkBulkSize(ids);
+        BulkItemResultDto[] results = new BulkItemResultDto[ids.size()];
+        Set<Long> existingIds = findActiveByIds(ids.stream().filter(Objects::nonNull).toList()).keySet();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = failedItem(i, null, BulkItemStatus.INVALID, List.of("id must not be null"));
+            } else if (existingIds.contains(id)) {
+                results[i] = BulkItemResultDto.builder().index(i).id(id).status(BulkItemStatus.DELETED).build();
+            } else {
+                results[i] = failedItem(i, id, BulkItemStatus.NOT_FOUND, List.of("Spaceship ID not found: " + id));
+            }
+        }
+
+        if (!existingIds.isEmpty()) {
+            spaceshipRepository.deleteAllByIds(existingIds);
+        }
+        completeBulkWrite(existingIds, Set.of(PageOrderGenerations.MEMBERS), existingIds.stream().map(id -> buildEvent("DELETE", id)).toList());
+        return toBulkResponse(results);
     }
 
-    private Spaceship convertToEntity(CreateSpaceshipRequestDto spaceshipDto) {
-        return objectMapper.convertValue(spaceshipDto, Spaceship.class);
+    /**
+     * Changes with every committed write, so it doubles as the validator of every list and search page.
+     */
+    public long getListGeneration() {
+        return cacheGenerationService.current();
     }
 
-    private void updateSpaceshipEntity(Spaceship existingSpaceship, CreateSpaceshipRequestDto spaceshipDto) {
-        existingSpaceship.setName(spaceshipDto.getName());
-        existingSpaceship.setCrewCapacity(spaceshipDto.getCrewCapacity());
-        existingSpaceship.setType(spaceshipDto.getType());
-        existingSpaceship.setSeriesOrMovie(spaceshipDto.getSeriesOrMovie());
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BULK_ITEMS) {
+            throw new InvalidBulkRequestException("Bulk request must contain between 1 and " + MAX_BULK_ITEMS + " items");
+        }
     }
 
-    private void publishEvent(String eventType, SpaceshipDto spaceshipDto) {
-        SpaceshipEventDto event = SpaceshipEventDto.builder()
-                .eventType(eventType)
-                .spaceshipId(spaceshipDto.getId())
-                .spaceshipName(spaceshipDto.getName())
-                .crewCapacity(spaceshipDto.getCrewCapacity())
-                .type(spaceshipDto.getType())
-                .seriesOrMovie(spaceshipDto.getSeriesOrMovie())
+    private List<String> validate(Object item) {
+        return validator.validate(item).stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .toList();
+    }
+
+    private Map<Long, Spaceship> findActiveByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return spaceshipRepository.findAllActiveByIds(new LinkedHashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Spaceship::getId, Function.identity()));
+    }
+
+    private static Map<String, Object> sortFields(Spaceship spaceship) {
+        Map<String, Object> sortFields = new HashMap<>();
+        sortFields.put("name", spaceship.getName());
+        sortFields.put("seriesOrMovie", spaceship.getSeriesOrMovie());
+        sortFields.put("type", spaceship.getType());
+        sortFields.put("crewCapacity", spaceship.getCrewCapacity());
+        return sortFields;
+    }
+
+    private static Set<String> changedPageOrders(Map<String, Object> sortFieldsBefore, Spaceship updatedSpaceship) {
+        Set<String> changedPageOrders = new HashSet<>();
+        changedPageOrders.add(PageOrderGenerations.ANY_FIELD);
+        sortFields(updatedSpaceship).forEach((field, value) -> {
+            if (!Objects.equals(value, sortFieldsBefore.get(field))) {
+                changedPageOrders.add(field);
+            }
+        });
+        return changedPageOrders;
+    }
+
+    private void completeBulkWrite(Collection<Long> changedIds, Set<String> changedPageOrders, List<SpaceshipEventDto> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        evictAfterCommit(Set.copyOf(changedIds));
+        cacheGenerationService.advance();
+        pageOrderGenerations.advance(changedPageOrders);
+        spaceshipEventOutbox.appendAll(events);
+    }
+
+    /**
+     * Evicting before the commit would let a concurrent read cache the old rows again for the whole entity TTL.
+     */
+    private void evictAfterCommit(Set<Long> ids) {
+        TwoLevelCache cache = cacheManager.getCache("spaceship");
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictAll(ids);
+                }
+            });
+        } else {
+            cache.evictAll(ids);
+        }
+    }
+
+    private BulkItemResultDto succeededItem(int index, BulkItemStatus status, SpaceshipDto spaceshipDto) {
+        return BulkItemResultDto.builder()
+                .index(index)
+                .id(spaceshipDto.getId())
+                .status(status)
+                .spaceship(spaceshipDto)
                 .build();
-        kafkaSpaceshipProducer.sendSpaceshipEvent(event);
+    }
+
+    private BulkItemResultDto failedItem(int index, Long id, BulkItemStatus status, List<String> errors) {
+        return BulkItemResultDto.builder()
+                .index(index)
+                .id(id)
+                .status(status)
+                .errors(errors)
+                .build();
+    }
+
+    private BulkOperationResponseDto toBulkResponse(BulkItemResultDto[] results) {
+        int failed = (int) Arrays.stream(results).filter(result -> result.getErrors() != null).count();
+        return BulkOperationResponseDto.builder()
+                .results(List.of(results))
+                .succeeded(results.length - failed)
+                .failed(failed)
+                .build();
+    }
+
+    private void publishEvent(String eventType, SpaceshipDto spaceshipDto) {
+        spaceshipEventOutbox.append(buildEvent(eventType, spaceshipDto));
     }
 
     private void publishEvent(String eventType, Long id) {
-        SpaceshipEventDto event = SpaceshipEventDto.builder()
+        spaceshipEventOutbox.append(buildEvent(eventType, id));
+    }
+
+    private SpaceshipEventDto buildEvent(String eventType, SpaceshipDto spaceshipDto) {
+        return spaceshipMapper.toEvent(eventType, spaceshipDto);
+    }
+
+    private SpaceshipEventDto buildEvent(String eventType, Long id) {
+        return SpaceshipEventDto.builder()
                 .eventType(eventType)
                 .spaceshipId(id)
                 .build();
-        kafkaSpaceshipProducer.sendSpaceshipEvent(event);
     }
 }
@@ -0,0 +1,18 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceship_outbox
+
+CREATE SEQUENCE IF NOT EXISTS spaceship_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS spaceship_outbox
+(
+    id           BIGINT PRIMARY KEY,
+    spaceship_id BIGINT,
+    event_type   VARCHAR(20)             NOT NULL,
+    payload      TEXT                    NOT NULL,
+    created_at   TIMESTAMP DEFAULT now() NOT NULL,
+    sent_at      TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_spaceship_outbox_unsent
+    ON spaceship_outbox (id)
+    WHERE sent_at IS NULL;
@@ -0,0 +1,19 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceship_outbox_failures
+
+-- Rows the broker rejected, counted per relay attempt. A row that reaches outbox.relay.max-attempts, or whose payload
+-- cannot be read, gets failed_at and is left for an operator; the relay stops picking it up.
+ALTER TABLE spaceship_outbox
+    ADD COLUMN IF NOT EXISTS attempts INT DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS failed_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS last_error TEXT;
+
+DROP INDEX IF EXISTS idx_spaceship_outbox_unsent_relay_seq;
+
+CREATE INDEX IF NOT EXISTS idx_spaceship_outbox_pending_relay_seq
+    ON spaceship_outbox (relay_seq)
+    WHERE sent_at IS NULL AND failed_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_spaceship_outbox_failed
+    ON spaceship_outbox (failed_at)
+    WHERE failed_at IS NOT NULL;
@@ -0,0 +1,16 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceship_outbox_relay_seq
+
+-- Taken by the database when the row is inserted, after the writer holds the spaceship row lock, so two events of
+-- one spaceship get increasing values in commit order. Ids come from per-node pooled blocks and do not.
+-- CACHE 1 keeps sessions from preallocating values, which would break that order.
+CREATE SEQUENCE IF NOT EXISTS spaceship_outbox_relay_seq CACHE 1;
+
+ALTER TABLE spaceship_outbox
+    ADD COLUMN IF NOT EXISTS relay_seq BIGINT DEFAULT nextval('spaceship_outbox_relay_seq') NOT NULL;
+
+DROP INDEX IF EXISTS idx_spaceship_outbox_unsent;
+
+CREATE INDEX IF NOT EXISTS idx_spaceship_outbox_unsent_relay_seq
+    ON spaceship_outbox (relay_seq)
+    WHERE sent_at IS NULL;
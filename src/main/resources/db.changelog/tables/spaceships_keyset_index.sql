@@ -0,0 +1,6 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceships_keyset_index
+
+CREATE INDEX IF NOT EXISTS idx_spaceships_active_name_id
+    ON spaceships (name, id)
+    WHERE is_deleted = false;
@@ -0,0 +1,8 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceships_name_trgm_index
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_spaceships_active_name_trgm
+    ON spaceships USING gin (name gin_trgm_ops)
+    WHERE is_deleted = false;
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceships_sequence
+
+-- Pooled allocation: Hibernate reserves 50 ids per nextval, so inserts can be JDBC-batched.
+-- The first value handed out must stay above existing rows: pooled treats it as the top of its block.
+CREATE SEQUENCE IF NOT EXISTS spaceships_seq INCREMENT BY 50;
+
+SELECT setval('spaceships_seq', COALESCE((SELECT MAX(id) FROM spaceships), 0) + 50, false);
+
+--changeset spaceship-management:spaceships_drop_identity
+-- Ids come from spaceships_seq only. Raw inserts without an id now fail instead of drawing from the old identity
+-- sequence and colliding with the blocks Hibernate hands out.
+ALTER TABLE spaceships ALTER COLUMN id DROP IDENTITY IF EXISTS;
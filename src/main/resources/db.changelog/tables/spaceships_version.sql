@@ -0,0 +1,5 @@
+--liquibase formatted sql
+--changeset spaceship-management:spaceships_version
+
+ALTER TABLE spaceships
+    ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
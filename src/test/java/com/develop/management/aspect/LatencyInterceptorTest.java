@@ -0,0 +1,116 @@
+package com.develop.management.aspect;
+
+import com.develop.management.dto.latency.MethodLatencyDto;
+import com.develop.management.monitoring.LatencyRegistry;
+import com.develop.management.monitoring.LatencyTracked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyInterceptorTest {
+
+    private LatencyRegistry latencyRegistry;
+
+    @BeforeEach
+    void setUp() {
+        latencyRegistry = new LatencyRegistry(Duration.ofMillis(5), 10);
+    }
+
+    @Test
+    void invoke_shouldTrackInheritedMethods_whenRepositoryIsJdkProxy() {
+        ShipRepository repository = proxy((ShipRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ShipRepository.class}, (p, method, args) -> Optional.of("Falcon")));
+
+        repository.findById(1L);
+        repository.findById(2L);
+
+        List<MethodLatencyDto> latencies = latencyRegistry.getLatencies();
+        assertEquals(1, latencies.size());
+        assertEquals("ShipRepository.findById", latencies.get(0).getMethod());
+        assertEquals(2, latencies.get(0).getCount());
+    }
+
+    @Test
+    void invoke_shouldQueueSlowCall_whenCallExceedsThreshold() {
+        SlowService service = proxy(new SlowService());
+
+        assertThrows(IllegalStateException.class, () -> service.work(10));
+        latencyRegistry.dumpSlowCalls();
+
+        assertEquals(1, latencyRegistry.getRecentSlowCalls().size());
+        assertEquals("SlowService.work", latencyRegistry.getRecentSlowCalls().get(0).getMethod());
+        assertTrue(latencyRegistry.getRecentSlowCalls().get(0).isFailed());
+    }
+
+    @Test
+    void pointcut_shouldOnlyApplyToTrackedTypesAndMethods() {
+        Pointcut pointcut = LatencyInterceptor.pointcut();
+
+        assertFalse(AopUtils.canApply(pointcut, PlainService.class));
+        assertTrue(AopUtils.canApply(pointcut, SlowService.class));
+        assertTrue(AopUtils.canApply(pointcut, ShipRepositoryImpl.class));
+        assertTrue(AopUtils.canApply(pointcut, PartlyTrackedService.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T proxy(T target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvisor(new DefaultPointcutAdvisor(LatencyInterceptor.pointcut(), new LatencyInterceptor(latencyRegistry)));
+        return (T) factory.getProxy();
+    }
+
+    interface BaseRepository<T> {
+        Optional<T> findById(Long id);
+    }
+
+    @LatencyTracked
+    interface ShipRepository extends BaseRepository<String> {
+    }
+
+    static class ShipRepositoryImpl implements ShipRepository {
+
+        @Override
+        public Optional<String> findById(Long id) {
+            return Optional.empty();
+        }
+    }
+
+    static class PlainService {
+
+        public void work() {
+        }
+    }
+
+    static class PartlyTrackedService {
+
+        @LatencyTracked
+        public void tracked() {
+        }
+
+        public void untracked() {
+        }
+    }
+
+    @LatencyTracked
+    static class SlowService {
+
+        public void work(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("failed after " + millis + " ms");
+        }
+    }
+}
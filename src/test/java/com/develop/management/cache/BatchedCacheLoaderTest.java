@@ -0,0 +1,121 @@
+package com.develop.management.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchedCacheLoaderTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCache remoteCache;
+
+    private final AtomicInteger remoteGets = new AtomicInteger();
+
+    private final List<Set<Long>> databaseQueries = new CopyOnWriteArrayList<>();
+
+    private BatchedCacheLoader<Long, String> loader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        remoteCache = new ConcurrentMapCache("spaceship");
+        RemoteCacheBatch remoteBatch = RemoteCacheBatch.iterating(remoteCache);
+        RemoteCacheBatch countingBatch = new RemoteCacheBatch() {
+            @Override
+            public Map<Object, Object> getAll(Collection<?> keys) {
+                remoteGets.incrementAndGet();
+                return remoteBatch.getAll(keys);
+            }
+
+            @Override
+            public void putAll(Map<?, ?> values) {
+                remoteBatch.putAll(values);
+            }
+
+            @Override
+            public Set<Object> putAllIfAbsent(Map<?, ?> values) {
+                return remoteBatch.putAllIfAbsent(values);
+            }
+        };
+        TwoLevelCache cache = new TwoLevelCache("spaceship", Caffeine.newBuilder().maximumSize(1000).build(),
+                remoteCache, countingBatch, invalidationPublisher, true, CacheLoadLease.LOCAL,
+                TwoLevelCache.DEFAULT_LOAD_WAIT_TIMEOUT);
+        loader = new BatchedCacheLoader<>(cache, ids -> {
+            databaseQueries.add(Set.copyOf(ids));
+            Map<Long, String> found = new HashMap<>();
+            ids.stream().filter(id -> id % 10 != 0).forEach(id -> found.put(id, "Spaceship " + id));
+            return found;
+        }, Duration.ofMillis(50), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.close();
+    }
+
+    @Test
+    void load_shouldAnswerConcurrentMissesWithOneQuery_whenTheyArriveWithinTheWindow() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long id = 1; id <= 300; id++) {
+                long spaceshipId = id;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return loader.load(spaceshipId);
+                }));
+            }
+            start.countDown();
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            long id = i + 1;
+            assertEquals(id % 10 == 0 ? null : "Spaceship " + id, results.get(i).get());
+        }
+        assertEquals(1, databaseQueries.size());
+        assertEquals(300, databaseQueries.get(0).size());
+        assertEquals(1, remoteGets.get());
+        assertEquals("Spaceship 1", remoteCache.get(1L).get());
+        assertNotNull(remoteCache.get(10L), "ids that were not found are cached as null");
+        assertNull(remoteCache.get(10L).get());
+    }
+
+    @Test
+    void loadAll_shouldQueryOnlyKeysMissingFromBothTiers_whenSomeAreCached() {
+        remoteCache.put(1L, "Cached 1");
+        loader.load(2L);
+        databaseQueries.clear();
+
+        Map<Long, String> spaceships = loader.loadAll(List.of(3L, 1L, 2L, 20L));
+
+        assertEquals(List.of(3L, 1L, 2L, 20L), List.copyOf(spaceships.keySet()));
+        assertEquals("Spaceship 3", spaceships.get(3L));
+        assertEquals("Cached 1", spaceships.get(1L));
+        assertEquals("Spaceship 2", spaceships.get(2L));
+        assertNull(spaceships.get(20L));
+        assertEquals(List.of(Set.of(3L, 20L)), databaseQueries);
+        assertEquals(2, loader.getBatches());
+    }
+}
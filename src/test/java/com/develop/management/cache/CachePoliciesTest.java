@@ -0,0 +1,42 @@
+package com.develop.management.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachePoliciesTest {
+
+    @Test
+    void policy_shouldFallBackToDefaultPolicy_whenCacheLeavesSettingsOut() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(CachePolicies.POLICY_PREFIX + "default.ttl", "1h")
+                .withProperty(CachePolicies.POLICY_PREFIX + "default.local-max-size", "500")
+                .withProperty(CachePolicies.POLICY_PREFIX + "spaceshipSearch.ttl", "5m")
+                .withProperty(CachePolicies.POLICY_PREFIX + "spaceshipSearch.ttl-jitter", "30s")
+                .withProperty(CachePolicies.POLICY_PREFIX + "spaceshipSearch.cache-null-values", "false");
+        CachePolicies cachePolicies = new CachePolicies(environment);
+
+        CachePolicy search = cachePolicies.policy("spaceshipSearch");
+        CachePolicy future = cachePolicies.policy("notYetConfigured");
+
+        assertEquals(new CachePolicy(Duration.ofMinutes(5), Duration.ofSeconds(30), false, Duration.ofSeconds(30), 500,
+                Duration.ofSeconds(60)), search);
+        assertEquals(new CachePolicy(Duration.ofHours(1), Duration.ZERO, true, Duration.ofSeconds(30), 500,
+                Duration.ofSeconds(60)), future);
+    }
+
+    @Test
+    void nextTtl_shouldStayWithinJitter_whenJitterIsConfigured() {
+        CachePolicy policy = new CachePolicy(Duration.ofMinutes(5), Duration.ofSeconds(30), true, Duration.ofSeconds(30), 100,
+                Duration.ofSeconds(60));
+
+        for (int i = 0; i < 1000; i++) {
+            Duration ttl = policy.nextTtl();
+            assertTrue(ttl.compareTo(Duration.ofMinutes(5)) >= 0);
+            assertTrue(ttl.compareTo(Duration.ofMinutes(5).plusSeconds(30)) <= 0);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.develop.management.cache;
+
+import com.develop.management.dto.spaceship.CursorPageResponseDto;
+import com.develop.management.dto.spaceship.PageResponseDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.SpaceshipIdPageDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheValueSerializerTest {
+
+    private final CacheValueSerializer binarySerializer =
+            new CacheValueSerializer(CacheValueSerializer.Format.BINARY, 1024);
+
+    @Test
+    void deserialize_shouldRestorePage_whenWrittenCompressed() {
+        PageResponseDto<SpaceshipDto> page = new PageResponseDto<>(spaceships(100), 3, 100, 1234L, 13);
+
+        byte[] bytes = binarySerializer.serialize(page);
+        PageResponseDto<?> restored = (PageResponseDto<?>) binarySerializer.deserialize(bytes);
+
+        assertEquals(CacheValueSerializer.MAGIC_BYTE, bytes[0]);
+        assertEquals(1, bytes[2], "a 100 item page is above the compression threshold");
+        assertEquals(page.getContent(), restored.getContent());
+        assertEquals(3, restored.getPageNumber());
+        assertEquals(100, restored.getPageSize());
+        assertEquals(1234L, restored.getTotalElements());
+        assertEquals(13, restored.getTotalPages());
+        assertTrue(bytes.length < new GenericJackson2JsonRedisSerializer().serialize(page).length / 3);
+    }
+
+    @Test
+    void deserialize_shouldRestoreSmallValues_whenWrittenUncompressed() {
+        SpaceshipDto spaceship = new SpaceshipDto(null, "X-Wing", null, "Starfighter", -1, 7L);
+        CursorPageResponseDto<SpaceshipDto> lastPage = new CursorPageResponseDto<>(List.of(spaceship), 20, null);
+
+        assertEquals(spaceship, binarySerializer.deserialize(binarySerializer.serialize(spaceship)));
+        assertSame(NullValue.INSTANCE, binarySerializer.deserialize(binarySerializer.serialize(NullValue.INSTANCE)));
+        CursorPageResponseDto<?> restored = (CursorPageResponseDto<?>) binarySerializer.deserialize(
+                binarySerializer.serialize(lastPage));
+        assertEquals(List.of(spaceship), restored.getContent());
+        assertNull(restored.getNextCursor());
+    }
+
+    @Test
+    void deserialize_shouldRestoreIdPage_whenWrittenInEitherFormat() {
+        SpaceshipIdPageDto page = new SpaceshipIdPageDto(new ArrayList<>(List.of(3L, 1L, 1_000_000L)), 40L, 14);
+        CacheValueSerializer jsonSerializer = new CacheValueSerializer(CacheValueSerializer.Format.JSON, 0);
+
+        for (CacheValueSerializer serializer : List.of(binarySerializer, jsonSerializer)) {
+            SpaceshipIdPageDto restored = (SpaceshipIdPageDto) binarySerializer.deserialize(serializer.serialize(page));
+            assertEquals(page.getIds(), restored.getIds());
+            assertEquals(40L, restored.getTotalElements());
+            assertEquals(14, restored.getTotalPages());
+        }
+    }
+
+    @Test
+    void deserialize_shouldReadJsonEntries_whenWrittenBeforeBinaryFormat() {
+        SpaceshipDto spaceship = new SpaceshipDto(1L, "Millennium Falcon", "Star Wars", "Light freighter", 6, 0L);
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize(spaceship);
+
+        assertEquals(spaceship, binarySerializer.deserialize(legacy));
+        HashMap<String, String> unsupported = new HashMap<>(Map.of("unsupported", "type"));
+        assertEquals(unsupported, binarySerializer.deserialize(binarySerializer.serialize(unsupported)));
+    }
+
+    @Test
+    void deserialize_shouldReturnNull_whenFormatVersionIsUnknown() {
+        byte[] bytes = binarySerializer.serialize(new SpaceshipDto(1L, "A-Wing", null, null, 1, 0L));
+        bytes[1] = (byte) (CacheValueSerializer.FORMAT_VERSION + 1);
+
+        assertNull(binarySerializer.deserialize(bytes));
+    }
+
+    private static List<SpaceshipDto> spaceships(int count) {
+        List<SpaceshipDto> spaceships = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            spaceships.add(new SpaceshipDto(id, "Millennium Falcon " + id, "Star Wars", "Light freighter", 6, id % 3));
+        }
+        return spaceships;
+    }
+}
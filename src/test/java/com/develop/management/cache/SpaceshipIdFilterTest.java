@@ -0,0 +1,87 @@
+package com.develop.management.cache;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.repository.SpaceshipRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SpaceshipIdFilterTest {
+
+    @Mock
+    private SpaceshipRepository spaceshipRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SpaceshipIdFilter idFilter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        idFilter = new SpaceshipIdFilter(spaceshipRepository, meterRegistry, true, 0.01, 10_000, Duration.ofHours(6), 0.2,
+                10, Duration.ZERO);
+        idFilter.onFeedAssigned();
+    }
+
+    @Test
+    void check_shouldRejectMostUnknownIds_whenFilterWasRebuilt() {
+        // Every other id up to 20000 exists, so the odd ones are unknown ids below the highest id
+        List<Long> liveIds = LongStream.rangeClosed(1, 10_000).map(i -> i * 2).boxed().toList();
+        when(spaceshipRepository.count()).thenReturn(5_000L);
+        when(spaceshipRepository.findActiveIdsAfter(anyLong(), anyInt())).thenReturn(liveIds.subList(0, 10_000), List.of());
+
+        idFilter.rebuild();
+
+        assertTrue(liveIds.stream().allMatch(idFilter::check));
+        long passedUnknownIds = LongStream.rangeClosed(1, 10_000).map(i -> i * 2 - 1).filter(idFilter::check).count();
+        assertTrue(passedUnknownIds < 200, passedUnknownIds + " unknown ids passed");
+        assertTrue(idFilter.check(20_001L), "ids above the highest known id may have been created on another node");
+        assertTrue(idFilter.check(19_995L), "ids close below it may come from another node's id block");
+        assertTrue(idFilter.getMemoryBytes() > 0 && idFilter.getMemoryBytes() < 20_000);
+        assertEquals(10_000 - passedUnknownIds,
+                meterRegistry.get("spaceship.id.filter.checks").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void onEvent_shouldAddCreatedIds_whenEventsArriveAfterRebuild() {
+        when(spaceshipRepository.findActiveIdsAfter(anyLong(), anyInt())).thenReturn(List.of(1L, 2L, 100L));
+        idFilter.rebuild();
+
+        idFilter.onEvent(SpaceshipEventDto.builder().eventType("CREATE").spaceshipId(50L).build());
+        idFilter.onEvent(SpaceshipEventDto.builder().eventType("DELETE").spaceshipId(2L).build());
+        idFilter.recordFalsePositive();
+
+        assertTrue(idFilter.mightContain(50L));
+        assertFalse(idFilter.mightContain(51L));
+        assertTrue(idFilter.mightContain(2L), "deleted ids stay in the filter until the next rebuild");
+        assertEquals(1.0, idFilter.getFalsePositiveRate());
+        verify(spaceshipRepository, times(1)).findActiveIdsAfter(Long.MIN_VALUE, 10_000);
+    }
+
+    @Test
+    void mightContain_shouldPassEveryId_untilRebuiltAfterFeedAssignment() {
+        when(spaceshipRepository.findActiveIdsAfter(anyLong(), anyInt())).thenReturn(List.of(1L, 2L, 100L));
+        idFilter.rebuild();
+        assertFalse(idFilter.mightContain(51L));
+
+        // A restarted feed starts at the latest offset, so ids created since the scan may never arrive as events
+        idFilter.onFeedAssigned();
+        assertTrue(idFilter.mightContain(51L));
+
+        idFilter.rebuildIfStale();
+        assertFalse(idFilter.mightContain(51L));
+        verify(spaceshipRepository, times(2)).findActiveIdsAfter(Long.MIN_VALUE, 10_000);
+    }
+}
@@ -0,0 +1,234 @@
+package com.develop.management.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCache remoteCache;
+
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        remoteCache = new ConcurrentMapCache("spaceship");
+        cache = new TwoLevelCache("spaceship", Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache, invalidationPublisher);
+    }
+
+    @Test
+    void get_shouldServeFromLocalTier_whenValueWasLoadedFromRemote() {
+        remoteCache.put(1L, "Millennium Falcon");
+
+        assertEquals("Millennium Falcon", cache.get(1L).get());
+        assertEquals("Millennium Falcon", cache.get(1L).get());
+
+        assertEquals(1, cache.getStatistics().getLocalHits());
+        assertEquals(1, cache.getStatistics().getLocalMisses());
+        assertEquals(1, cache.getStatistics().getRemoteHits());
+    }
+
+    @Test
+    void get_shouldCountRemoteMiss_whenKeyIsAbsentInBothTiers() {
+        assertNull(cache.get(1L));
+
+        assertEquals(1, cache.getStatistics().getLocalMisses());
+        assertEquals(1, cache.getStatistics().getRemoteMisses());
+    }
+
+    @Test
+    void evict_shouldRemoveFromBothTiersAndBroadcast() {
+        cache.put(1L, "Millennium Falcon");
+
+        cache.evict(1L);
+
+        assertNull(remoteCache.get(1L));
+        assertNull(cache.get(1L));
+        verify(invalidationPublisher, times(1)).publishEvict("spaceship", List.of("1"));
+    }
+
+    @Test
+    void evictAll_shouldBroadcastOnce_whenSeveralKeysAreEvicted() {
+        cache.put(1L, "Millennium Falcon");
+        cache.put(2L, "Enterprise");
+
+        cache.evictAll(List.of(1L, 2L));
+
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+        verify(invalidationPublisher, times(1)).publishEvict("spaceship", List.of("1", "2"));
+    }
+
+    @Test
+    void putAllIfAbsent_shouldKeepCachedEntries_whenValuesWereReadBeforeAConcurrentUpdate() {
+        // A page query read version 1, then an update committed and a reader cached version 2
+        cache.put(1L, "Millennium Falcon v2");
+
+        cache.putAllIfAbsent(Map.of(1L, "Millennium Falcon v1", 2L, "Enterprise"));
+
+        assertEquals("Millennium Falcon v2", cache.get(1L).get());
+        assertEquals("Millennium Falcon v2", remoteCache.get(1L).get());
+        assertEquals("Enterprise", remoteCache.get(2L).get());
+        assertEquals("Enterprise", cache.getLocal(2L).get());
+    }
+
+    @Test
+    void evictLocal_shouldKeepRemoteEntry_whenInvalidationComesFromAnotherNode() {
+        cache.put(1L, "Millennium Falcon");
+        remoteCache.put(1L, "Updated Falcon");
+
+        cache.evictLocal("1");
+
+        assertEquals("Updated Falcon", cache.get(1L).get());
+        verify(invalidationPublisher, never()).publishEvict(anyString(), anyList());
+    }
+
+    @Test
+    void get_shouldLoadAgain_whenNullValuesAreNotCached() {
+        TwoLevelCache searchCache = new TwoLevelCache("spaceshipSearch", Caffeine.newBuilder().maximumSize(100).build(),
+                remoteCache, RemoteCacheBatch.iterating(remoteCache), invalidationPublisher, false,
+                CacheLoadLease.LOCAL, TwoLevelCache.DEFAULT_LOAD_WAIT_TIMEOUT);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(searchCache.get(1L, () -> { loads.incrementAndGet(); return null; }));
+        assertNull(searchCache.get(1L, () -> { loads.incrementAndGet(); return null; }));
+
+        assertEquals(2, loads.get());
+        assertNull(remoteCache.get(1L));
+    }
+
+    @Test
+    void get_shouldLoadOnce_whenHundredsOfCallersMissTheSameKey() throws Exception {
+        AtomicInteger databaseHits = new AtomicInteger();
+
+        List<Object> results = missConcurrently(List.of(cache), 500, () -> {
+            databaseHits.incrementAndGet();
+            Thread.sleep(100);
+            return "Millennium Falcon";
+        });
+
+        assertEquals(1, databaseHits.get());
+        assertTrue(results.stream().allMatch("Millennium Falcon"::equals));
+        assertEquals("Millennium Falcon", remoteCache.get(1L).get());
+        assertEquals(1, cache.getStatistics().getLoads());
+    }
+
+    @Test
+    void get_shouldLoadOnceAcrossNodes_whenTheyShareTheLoadLease() throws Exception {
+        Set<String> leases = ConcurrentHashMap.newKeySet();
+        CacheLoadLease sharedLease = new CacheLoadLease() {
+            @Override
+            public boolean tryAcquire(String cacheName, String key) {
+                return leases.add(cacheName + "::" + key);
+            }
+
+            @Override
+            public void release(String cacheName, String key) {
+                leases.remove(cacheName + "::" + key);
+            }
+        };
+        List<TwoLevelCache> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new TwoLevelCache("spaceship", Caffeine.newBuilder().maximumSize(100).build(), remoteCache,
+                    RemoteCacheBatch.iterating(remoteCache), invalidationPublisher, true, sharedLease,
+                    TwoLevelCache.DEFAULT_LOAD_WAIT_TIMEOUT));
+        }
+        AtomicInteger databaseHits = new AtomicInteger();
+
+        List<Object> results = missConcurrently(nodes, 300, () -> {
+            databaseHits.incrementAndGet();
+            Thread.sleep(100);
+            return "Millennium Falcon";
+        });
+
+        assertEquals(1, databaseHits.get());
+        assertTrue(results.stream().allMatch("Millennium Falcon"::equals));
+        assertTrue(leases.isEmpty());
+    }
+
+    @Test
+    void get_shouldPassLoaderFailureToWaitingCallers_whenLoadFails() throws Exception {
+        AtomicInteger databaseHits = new AtomicInteger();
+
+        List<Object> results = missConcurrently(List.of(cache), 50, () -> {
+            databaseHits.incrementAndGet();
+            Thread.sleep(100);
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertEquals(1, databaseHits.get());
+        assertTrue(results.stream().allMatch(Cache.ValueRetrievalException.class::isInstance));
+        assertEquals("Millennium Falcon", cache.get(1L, () -> "Millennium Falcon"));
+    }
+
+    @Test
+    void metrics_shouldReportHitsPerTierAndEvictions_whenBoundToRegistry() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new TwoLevelCacheMetrics(cache, List.of()).bindTo(meterRegistry);
+        remoteCache.put(1L, "Millennium Falcon");
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+        cache.evict(1L);
+
+        assertEquals(2, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.tier.gets").tags("tier", "local", "result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.evictions").functionCounter().count());
+    }
+
+    /**
+     * Calls {@code get(1L, loader)} from {@code callers} threads released at once, spread over the given nodes.
+     * A failed call contributes its exception to the results.
+     */
+    private static List<Object> missConcurrently(List<TwoLevelCache> nodes, int callers,
+                                                 Callable<String> loader) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>(callers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                TwoLevelCache node = nodes.get(i % nodes.size());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return node.get(1L, loader);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                }));
+            }
+            start.countDown();
+        }
+        List<Object> results = new ArrayList<>(callers);
+        for (Future<Object> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+}
@@ -1,10 +1,14 @@
 package com.develop.management.controller;
 
+import com.develop.management.dto.spaceship.BulkItemResultDto;
+import com.develop.management.dto.spaceship.BulkItemStatus;
+import com.develop.management.dto.spaceship.BulkOperationResponseDto;
 import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
 import com.develop.management.dto.spaceship.PageResponseDto;
 import com.develop.management.dto.spaceship.SpaceshipDto;
 import com.develop.management.dto.spaceship.SpaceshipsDataDto;
 import com.develop.management.exception.EntityNotFoundException;
+import com.develop.management.exception.InvalidBulkRequestException;
 import com.develop.management.security.JwtUtils;
 import com.develop.management.service.SpaceshipServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +20,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
@@ -24,12 +29,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static com.develop.management.controller.TestDataHelper.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -148,11 +157,98 @@ class SpaceshipControllerTest {
 
         mockMvc.perform(get("/api/spaceships/1")
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Entity not found"))
+                .andExpect(jsonPath("$.errors[0]").value("Spaceship with ID 1 not found"));
 
         verify(spaceshipServiceImpl, times(1)).getSpaceshipById(1L);
     }
 
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER", "ADMIN"})
+    void getSpaceshipById_shouldReturnNotModified_whenETagMatches() throws Exception {
+        when(spaceshipServiceImpl.getSpaceshipById(1L)).thenReturn(Optional.of(spaceshipDto));
+
+        mockMvc.perform(get("/api/spaceships/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-0\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER", "ADMIN"})
+    void getSpaceshipsByIds_shouldReturnResultsInRequestOrder_whenIdsAreCommaSeparated() throws Exception {
+        when(spaceshipServiceImpl.getSpaceshipsByIds(List.of(404L, 1L, 1L))).thenReturn(bulkResponse(
+                failedItem(0, 404L, BulkItemStatus.NOT_FOUND, "Spaceship ID not found: 404"),
+                foundItem(1, spaceshipDto),
+                foundItem(2, spaceshipDto)));
+
+        mockMvc.perform(get("/api/spaceships/batch")
+                        .param("ids", "404,1,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[0].id").value(404))
+                .andExpect(jsonPath("$.results[1].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[1].spaceship.name").value("Millennium Falcon"))
+                .andExpect(jsonPath("$.results[2].index").value(2))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1));
+
+        verify(spaceshipServiceImpl, times(1)).getSpaceshipsByIds(List.of(404L, 1L, 1L));
+    }
+
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER", "ADMIN"})
+    void getSpaceshipsByIdList_shouldMarkInvalidIds_whenBodyHasNullAndNegativeIds() throws Exception {
+        List<Long> ids = Arrays.asList(1L, null, -5L);
+        when(spaceshipServiceImpl.getSpaceshipsByIds(ids)).thenReturn(bulkResponse(
+                foundItem(0, spaceshipDto),
+                failedItem(1, null, BulkItemStatus.INVALID, "id must not be null"),
+                failedItem(2, -5L, BulkItemStatus.INVALID, "id must not be negative")));
+
+        mockMvc.perform(post("/api/spaceships/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, null, -5]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors[0]").value("id must not be null"))
+                .andExpect(jsonPath("$.results[2].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[2].errors[0]").value("id must not be negative"));
+
+        verify(spaceshipServiceImpl, times(1)).getSpaceshipsByIds(ids);
+    }
+
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER", "ADMIN"})
+    void getSpaceshipsByIds_shouldReturnBadRequest_whenMoreThanThousandIdsAreRequested() throws Exception {
+        String ids = LongStream.rangeClosed(1, 1001).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        when(spaceshipServiceImpl.getSpaceshipsByIds(anyList()))
+                .thenThrow(new InvalidBulkRequestException("Bulk request must contain between 1 and 1000 items"));
+
+        mockMvc.perform(get("/api/spaceships/batch")
+                        .param("ids", ids))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid bulk request"))
+                .andExpect(jsonPath("$.errors[0]").value("Bulk request must contain between 1 and 1000 items"));
+
+        verify(spaceshipServiceImpl, times(1)).getSpaceshipsByIds(argThat(requested -> requested.size() == 1001));
+    }
+
+    @Test
+    @WithMockUser(username = "user", authorities = {"USER", "ADMIN"})
+    void getAllSpaceships_shouldReturnNotModifiedWithoutLoadingPage_whenGenerationIsUnchanged() throws Exception {
+        when(spaceshipServiceImpl.getListGeneration()).thenReturn(7L);
+
+        mockMvc.perform(get("/api/spaceships")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"g7\""))
+                .andExpect(status().isNotModified());
+
+        verify(spaceshipServiceImpl, never()).getAllSpaceships(any(Pageable.class));
+    }
+
     @Test
     @WithMockUser(username = "user", roles = {"USER", "ADMIN"})
     void searchSpaceshipsByName_shouldReturnSpaceships_whenMatchingSpaceshipsExist() throws Exception {
@@ -160,7 +256,7 @@ class SpaceshipControllerTest {
                 .spaceships(List.of(spaceshipDto))
                 .build();
 
-        when(spaceshipServiceImpl.searchSpaceshipsByName("Falcon")).thenReturn(response);
+        when(spaceshipServiceImpl.searchSpaceshipsByName(eq("Falcon"), any(Pageable.class))).thenReturn(response);
 
         mockMvc.perform(get("/api/spaceships/search")
                         .param("name", "Falcon")
@@ -169,7 +265,7 @@ class SpaceshipControllerTest {
                 .andExpect(jsonPath(SPACESHIPS_ARRAY_PATH).isArray())
                 .andExpect(jsonPath(LIST_FROM_SPACESHIP_NAME_PATH).value(spaceshipDto.getName()));
 
-        verify(spaceshipServiceImpl, times(1)).searchSpaceshipsByName("Falcon");
+        verify(spaceshipServiceImpl, times(1)).searchSpaceshipsByName(eq("Falcon"), any(Pageable.class));
     }
 
     @Test
@@ -179,7 +275,7 @@ class SpaceshipControllerTest {
                 .spaceships(Collections.emptyList())
                 .build();
 
-        when(spaceshipServiceImpl.searchSpaceshipsByName("Nonexistent")).thenReturn(emptyResponse);
+        when(spaceshipServiceImpl.searchSpaceshipsByName(eq("Nonexistent"), any(Pageable.class))).thenReturn(emptyResponse);
 
         mockMvc.perform(get("/api/spaceships/search")
                         .param("name", "Nonexistent")
@@ -187,7 +283,7 @@ class SpaceshipControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath(SPACESHIPS_ARRAY_PATH).isEmpty());
 
-        verify(spaceshipServiceImpl, times(1)).searchSpaceshipsByName("Nonexistent");
+        verify(spaceshipServiceImpl, times(1)).searchSpaceshipsByName(eq("Nonexistent"), any(Pageable.class));
     }
 
     @Test
@@ -251,6 +347,53 @@ class SpaceshipControllerTest {
                 .updateSpaceship(eq(1L), any(CreateSpaceshipRequestDto.class));
     }
 
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void updateSpaceship_shouldPassVersionFromIfMatch_whenHeaderIsPresent() throws Exception {
+        when(spaceshipServiceImpl.updateSpaceship(eq(1L), any(CreateSpaceshipRequestDto.class), eq(3L)))
+                .thenReturn(spaceshipDto);
+
+        mockMvc.perform(put("/api/spaceships/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_NAME_REQUEST_BODY_JSON))
+                .andExpect(status().isOk());
+
+        verify(spaceshipServiceImpl, times(1))
+                .updateSpaceship(eq(1L), any(CreateSpaceshipRequestDto.class), eq(3L));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", authorities = {"ADMIN"})
+    void updateSpaceship_shouldAcceptReturnedETag_whenUpdatingAgain() throws Exception {
+        SpaceshipDto firstUpdate = SpaceshipDto.builder().id(1L).name("Millennium Falcon").version(4L).build();
+        SpaceshipDto secondUpdate = SpaceshipDto.builder().id(1L).name("Millennium Falcon").version(5L).build();
+        when(spaceshipServiceImpl.updateSpaceship(eq(1L), any(CreateSpaceshipRequestDto.class), eq(3L)))
+                .thenReturn(firstUpdate);
+        when(spaceshipServiceImpl.updateSpaceship(eq(1L), any(CreateSpaceshipRequestDto.class), eq(4L)))
+                .thenReturn(secondUpdate);
+
+        String eTag = mockMvc.perform(put("/api/spaceships/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_NAME_REQUEST_BODY_JSON))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/spaceships/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(UPDATE_NAME_REQUEST_BODY_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-5\""));
+
+        verify(spaceshipServiceImpl, times(1))
+                .updateSpaceship(eq(1L), any(CreateSpaceshipRequestDto.class), eq(4L));
+    }
+
     @Test
     @WithMockUser(username = "admin", authorities = {"ADMIN"})
     void deleteSpaceship_shouldDeleteSpaceship_whenSpaceshipExists() throws Exception {
@@ -286,5 +429,16 @@ class SpaceshipControllerTest {
         verify(spaceshipServiceImpl, times(0)).deleteSpaceship(1L);
     }
 
+    private static BulkOperationResponseDto bulkResponse(BulkItemResultDto... results) {
+        int failed = (int) Arrays.stream(results).filter(result -> result.getErrors() != null).count();
+        return new BulkOperationResponseDto(List.of(results), results.length - failed, failed);
+    }
+
+    private static BulkItemResultDto foundItem(int index, SpaceshipDto spaceship) {
+        return BulkItemResultDto.builder().index(index).id(spaceship.getId()).status(BulkItemStatus.FOUND).spaceship(spaceship).build();
+    }
 
+    private static BulkItemResultDto failedItem(int index, Long id, BulkItemStatus status, String error) {
+        return BulkItemResultDto.builder().index(index).id(id).status(status).errors(List.of(error)).build();
+    }
 }
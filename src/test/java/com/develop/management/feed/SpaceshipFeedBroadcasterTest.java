@@ -0,0 +1,113 @@
+package com.develop.management.feed;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceshipFeedBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void publish_shouldSendSameEventToEverySubscriber_whenSubscribersKeepUp() {
+        SpaceshipFeedBroadcaster broadcaster = createBroadcaster(Runnable::run, 4, 16);
+        RecordingEmitter first = subscribe(broadcaster, null);
+        RecordingEmitter second = subscribe(broadcaster, null);
+
+        broadcaster.publish(event("CREATE", 10L), 0, 5);
+
+        assertEquals(1, first.frames.size());
+        assertEquals(first.frames, second.frames);
+        assertTrue(first.frames.get(0).contains("id:0:5"));
+        assertTrue(first.frames.get(0).contains("event:CREATE"));
+        assertTrue(first.frames.get(0).contains("\"spaceshipId\":10"));
+    }
+
+    @Test
+    void publish_shouldDropOnlyTheSlowSubscriber_whenItsBufferOverflows() {
+        List<Runnable> stalledSends = new ArrayList<>();
+        SpaceshipFeedBroadcaster broadcaster = createBroadcaster(stalledSends::add, 3, 16);
+        subscribe(broadcaster, null); // the connected comment takes the first slot
+
+        broadcaster.publish(event("CREATE", 10L), 0, 1);
+        broadcaster.publish(event("UPDATE", 10L), 0, 2);
+        assertEquals(1, broadcaster.getStatistics().getSubscribers());
+
+        broadcaster.publish(event("DELETE", 10L), 0, 3);
+
+        assertEquals(0, broadcaster.getStatistics().getSubscribers());
+        assertEquals(1, broadcaster.getStatistics().getDroppedSubscribers());
+        assertEquals(1, meterRegistry.get("spaceship.feed.subscribers.dropped").counter().count());
+    }
+
+    @Test
+    void subscribe_shouldReplayOnlyMissedEvents_whenLastEventIdIsStillBuffered() {
+        SpaceshipFeedBroadcaster broadcaster = createBroadcaster(Runnable::run, 16, 16);
+        broadcaster.publish(event("CREATE", 10L), 0, 1);
+        broadcaster.publish(event("CREATE", 20L), 1, 7);
+        broadcaster.publish(event("UPDATE", 10L), 0, 2);
+
+        RecordingEmitter resumed = subscribe(broadcaster, "0:1,1:7");
+
+        assertEquals(1, resumed.frames.size());
+        assertTrue(resumed.frames.get(0).contains("id:0:2,1:7"));
+        assertTrue(resumed.frames.get(0).contains("event:UPDATE"));
+    }
+
+    @Test
+    void subscribe_shouldSendReset_whenMissedEventsWereEvictedFromReplayBuffer() {
+        SpaceshipFeedBroadcaster broadcaster = createBroadcaster(Runnable::run, 16, 2);
+        broadcaster.publish(event("CREATE", 10L), 0, 1);
+        broadcaster.publish(event("UPDATE", 10L), 0, 2);
+        broadcaster.publish(event("UPDATE", 10L), 0, 3);
+
+        RecordingEmitter resumed = subscribe(broadcaster, "0:0");
+
+        assertEquals(1, resumed.frames.size());
+        assertTrue(resumed.frames.get(0).contains("event:" + SpaceshipFeedBroadcaster.RESET_EVENT));
+        assertTrue(resumed.frames.get(0).contains("id:0:3"));
+    }
+
+    private SpaceshipFeedBroadcaster createBroadcaster(Executor dispatcher, int subscriberBufferSize, int replayBufferSize) {
+        return new SpaceshipFeedBroadcaster(new ObjectMapper(), meterRegistry, dispatcher,
+                subscriberBufferSize, replayBufferSize, Duration.ofMinutes(1));
+    }
+
+    private RecordingEmitter subscribe(SpaceshipFeedBroadcaster broadcaster, String lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, lastEventId);
+        return emitter;
+    }
+
+    private SpaceshipEventDto event(String eventType, Long spaceshipId) {
+        return SpaceshipEventDto.builder()
+                .eventType(eventType)
+                .spaceshipId(spaceshipId)
+                .build();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            String frame = items.stream().map(item -> item.getData().toString()).collect(Collectors.joining());
+            if (!frame.startsWith(":")) {
+                frames.add(frame);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.develop.management.mapper;
+
+import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
+import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.model.Spaceship;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceshipMapperTest {
+
+    private final SpaceshipMapper spaceshipMapper = Mappers.getMapper(SpaceshipMapper.class);
+
+    @Test
+    void toDto_shouldCopyAllFields_whenSpaceshipIsMapped() {
+        Spaceship spaceship = new Spaceship();
+        spaceship.setId(1L);
+        spaceship.setName("Millennium Falcon");
+        spaceship.setSeriesOrMovie("Star Wars");
+        spaceship.setType("Freighter");
+        spaceship.setCrewCapacity(6);
+        spaceship.setVersion(4);
+
+        SpaceshipDto result = spaceshipMapper.toDto(spaceship);
+
+        assertEquals(new SpaceshipDto(1L, "Millennium Falcon", "Star Wars", "Freighter", 6, 4), result);
+    }
+
+    @Test
+    void updateEntity_shouldKeepIdDeletedFlagAndVersion_whenRequestIsApplied() {
+        Spaceship spaceship = new Spaceship();
+        spaceship.setId(1L);
+        spaceship.setVersion(4);
+        CreateSpaceshipRequestDto request = new CreateSpaceshipRequestDto("Enterprise", "Star Trek", "Starship", 430);
+
+        spaceshipMapper.updateEntity(request, spaceship);
+
+        assertEquals(1L, spaceship.getId());
+        assertFalse(spaceship.isDeleted());
+        assertEquals(4, spaceship.getVersion());
+        assertEquals("Enterprise", spaceship.getName());
+        assertEquals(430, spaceship.getCrewCapacity());
+    }
+
+    @Test
+    void toEvent_shouldCarryIdAndNameOfSpaceship_whenEventIsBuilt() {
+        SpaceshipDto spaceshipDto = new SpaceshipDto(1L, "Millennium Falcon", "Star Wars", "Freighter", 6, 0);
+
+        SpaceshipEventDto event = spaceshipMapper.toEvent("UPDATE", spaceshipDto);
+
+        assertEquals(new SpaceshipEventDto("UPDATE", 1L, "Millennium Falcon", 6, "Freighter", "Star Wars"), event);
+    }
+}
@@ -0,0 +1,27 @@
+package com.develop.management.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRegistryTest {
+
+    @Test
+    void recordSlowCall_shouldDescribeArgumentsByTypeAndSize_withoutTheirValues() {
+        LatencyRegistry latencyRegistry = new LatencyRegistry(Duration.ofMillis(5), 10);
+        List<String> names = new ArrayList<>(Collections.nCopies(1000, "Falcon"));
+
+        latencyRegistry.recordSlowCall("UserRepository.findByEmail", 10_000_000L,
+                new Object[]{"admin@example.com", names, new long[3], null}, false);
+        latencyRegistry.dumpSlowCalls();
+
+        String arguments = latencyRegistry.getRecentSlowCalls().get(0).getArguments();
+        assertEquals("[String, ArrayList(1000), long[3], null]", arguments);
+        assertFalse(arguments.contains("admin@example.com"));
+    }
+}
@@ -0,0 +1,23 @@
+package com.develop.management.monitoring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadLogSamplerTest {
+
+    @Test
+    void sample_shouldUseEndpointRate_whenEndpointIsConfigured() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(PayloadLogSampler.ENDPOINT_RATE_PREFIX + "createSpaceship", "1.0")
+                .withProperty(PayloadLogSampler.ENDPOINT_RATE_PREFIX + "getAllSpaceships", "0");
+        PayloadLogSampler sampler = new PayloadLogSampler(environment, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(sampler.sample("createSpaceship"));
+            assertFalse(sampler.sample("getAllSpaceships"));
+        }
+        assertEquals(0.5, sampler.getSampleRate("searchSpaceshipsByName"));
+    }
+}
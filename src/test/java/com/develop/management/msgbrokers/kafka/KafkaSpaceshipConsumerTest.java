@@ -0,0 +1,142 @@
+package com.develop.management.msgbrokers.kafka;
+
+import com.develop.management.config.KafkaConsumerConfig;
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaSpaceshipConsumerTest {
+
+    private static final String TOPIC = "spaceship-events";
+    private static final String DEAD_LETTER_TOPIC = TOPIC + KafkaConsumerConfig.DEAD_LETTER_SUFFIX;
+    private static final String GROUP_ID = "spaceship-consumer-test";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ConcurrentMessageListenerContainer<String, SpaceshipEventDto> container;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC, DEAD_LETTER_TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @AfterEach
+    void stopContainer() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Test
+    void consumeSpaceshipEvents_shouldCommitBatchAndDeadLetterUnreadableRecord_whenPayloadIsNotJson() throws Exception {
+        KafkaTemplate<String, String> rawTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new StringSerializer()));
+        for (long id = 1; id <= 5; id++) {
+            rawTemplate.send(TOPIC, String.valueOf(id), "{\"eventType\":\"CREATE\",\"spaceshipId\":" + id + "}").get();
+        }
+        rawTemplate.send(TOPIC, "6", "not-json").get();
+
+        KafkaSpaceshipConsumer consumer = new KafkaSpaceshipConsumer(meterRegistry);
+        container = createContainer(consumer);
+        container.start();
+
+        try (Consumer<String, String> deadLetterConsumer = createStringConsumer("dead-letter-test")) {
+            broker.consumeFromAnEmbeddedTopic(deadLetterConsumer, DEAD_LETTER_TOPIC);
+            ConsumerRecord<String, String> deadLetter =
+                    KafkaTestUtils.getSingleRecord(deadLetterConsumer, DEAD_LETTER_TOPIC, Duration.ofSeconds(20));
+            assertEquals("6", deadLetter.key());
+            assertEquals("not-json", deadLetter.value());
+        }
+
+        assertEquals(3, container.getConcurrency());
+        assertEquals(5.0, meterRegistry.get("spaceship.events.consumed").counter().count(), 0.0);
+        // The offset of the dead-lettered record is committed right after it was published
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (committedOffsets() < 6 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals(6, committedOffsets());
+    }
+
+    private ConcurrentMessageListenerContainer<String, SpaceshipEventDto> createContainer(KafkaSpaceshipConsumer consumer) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(GROUP_ID, "false", broker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        JsonDeserializer<SpaceshipEventDto> jsonDeserializer = new JsonDeserializer<>(SpaceshipEventDto.class);
+        jsonDeserializer.addTrustedPackages("com.develop.management.dto.spaceship");
+
+        ConcurrentKafkaListenerContainerFactory<String, SpaceshipEventDto> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(jsonDeserializer)));
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        KafkaTemplate<Object, Object> deadLetterTemplate =
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+        new KafkaConsumerConfig(TOPIC, 3, 3, Duration.ofMillis(10), 2)
+                .configureBatchListener(factory, deadLetterTemplate);
+
+        ConcurrentMessageListenerContainer<String, SpaceshipEventDto> listenerContainer = factory.createContainer(TOPIC);
+        listenerContainer.setupMessageListener(
+                (BatchAcknowledgingMessageListener<String, SpaceshipEventDto>) consumer::consumeSpaceshipEvents);
+        return listenerContainer;
+    }
+
+    private long committedOffsets() {
+        try (Consumer<String, String> offsetReader = createStringConsumer(GROUP_ID)) {
+            Set<TopicPartition> partitions = IntStream.range(0, 3)
+                    .mapToObj(partition -> new TopicPartition(TOPIC, partition))
+                    .collect(Collectors.toSet());
+            return offsetReader.committed(partitions).values().stream()
+                    .filter(Objects::nonNull)
+                    .mapToLong(OffsetAndMetadata::offset)
+                    .sum();
+        }
+    }
+
+    private Consumer<String, String> createStringConsumer(String groupId) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(groupId, "false", broker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer())
+                .createConsumer();
+    }
+}
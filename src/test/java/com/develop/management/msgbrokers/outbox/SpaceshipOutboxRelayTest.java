@@ -0,0 +1,234 @@
+package com.develop.management.msgbrokers.outbox;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import com.develop.management.model.SpaceshipOutboxEvent;
+import com.develop.management.msgbrokers.SpaceshipProducer;
+import com.develop.management.msgbrokers.kafka.KafkaSpaceshipProducer;
+import com.develop.management.repository.SpaceshipOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+class SpaceshipOutboxRelayTest {
+
+    private static final String TOPIC = "spaceship-events";
+
+    private static EmbeddedKafkaKraftBroker broker;
+
+    @Mock
+    private SpaceshipOutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(outboxRepository.tryAcquireRelayLock(SpaceshipOutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+    }
+
+    @Test
+    void relayBatch_shouldPublishKeyedEventsInOrderAndMarkThemSent_whenBrokerAcknowledges() throws Exception {
+        List<SpaceshipOutboxEvent> batch = List.of(
+                outboxEvent(1L, "CREATE", 10L),
+                outboxEvent(2L, "CREATE", 20L),
+                outboxEvent(3L, "UPDATE", 10L),
+                outboxEvent(4L, "DELETE", 10L));
+        when(outboxRepository.findUnsentBatch(500)).thenReturn(batch);
+
+        int relayed = createRelay(createKafkaProducer()).relayBatch();
+
+        assertEquals(4, relayed);
+        verify(outboxRepository, times(1)).markSent(List.of(1L, 2L, 3L, 4L));
+
+        List<String> spaceshipTenEvents = new ArrayList<>();
+        try (Consumer<String, SpaceshipEventDto> consumer = createConsumer()) {
+            ConsumerRecords<String, SpaceshipEventDto> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 4);
+            for (ConsumerRecord<String, SpaceshipEventDto> record : records) {
+                if ("10".equals(record.key())) {
+                    spaceshipTenEvents.add(record.value().getEventType());
+                }
+            }
+        }
+        assertEquals(List.of("CREATE", "UPDATE", "DELETE"), spaceshipTenEvents);
+        assertEquals(4, meterRegistry.get("spaceship.events.send").tag("result", "success").timer().count());
+    }
+
+    @Test
+    void relayBatch_shouldPublishInRelayOrder_whenIdsComeFromInterleavedBlocks() throws Exception {
+        // Node B committed the first update with an id of its block 51-100, then node A the second with id 2
+        SpaceshipEventDto firstEvent = SpaceshipEventDto.builder().eventType("UPDATE").spaceshipId(10L).crewCapacity(2).build();
+        SpaceshipEventDto secondEvent = SpaceshipEventDto.builder().eventType("UPDATE").spaceshipId(10L).crewCapacity(3).build();
+        SpaceshipOutboxEvent firstUpdate = outboxEvent(51L, "UPDATE", 10L);
+        firstUpdate.setPayload(objectMapper.writeValueAsString(firstEvent));
+        firstUpdate.setRelaySeq(7L);
+        SpaceshipOutboxEvent secondUpdate = outboxEvent(2L, "UPDATE", 10L);
+        secondUpdate.setPayload(objectMapper.writeValueAsString(secondEvent));
+        secondUpdate.setRelaySeq(8L);
+        SpaceshipProducer producer = mock(SpaceshipProducer.class);
+        when(outboxRepository.findUnsentBatch(500)).thenReturn(List.of(firstUpdate, secondUpdate));
+        when(producer.sendSpaceshipEvents(any()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)));
+
+        assertEquals(2, createRelay(producer).relayBatch());
+
+        verify(producer, times(1)).sendSpaceshipEvents(List.of(firstEvent, secondEvent));
+        verify(outboxRepository, times(1)).markSent(List.of(51L, 2L));
+    }
+
+    @Test
+    void relayBatch_shouldLeaveEventsUnsentWithoutCountingAttempts_whenBrokerIsUnavailable() throws Exception {
+        SpaceshipProducer failingProducer = mock(SpaceshipProducer.class);
+        when(outboxRepository.findUnsentBatch(500)).thenReturn(List.of(outboxEvent(1L, "CREATE", 10L)));
+        when(failingProducer.sendSpaceshipEvents(any()))
+                .thenReturn(List.of(CompletableFuture.failedFuture(new TimeoutException("broker unavailable"))));
+
+        assertThrows(IllegalStateException.class, () -> createRelay(failingProducer).relayBatch());
+
+        verify(outboxRepository, never()).markSent(any());
+        verify(outboxRepository, never()).recordFailedAttempt(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void relayBatch_shouldMarkLaterEventsSentAndCountAttempt_whenBrokerRejectsOneEvent() throws Exception {
+        SpaceshipProducer producer = mock(SpaceshipProducer.class);
+        SpaceshipOutboxEvent rejectedEvent = outboxEvent(1L, "CREATE", 10L);
+        rejectedEvent.setAttempts(1);
+        when(outboxRepository.findUnsentBatch(500)).thenReturn(List.of(rejectedEvent, outboxEvent(2L, "CREATE", 20L)));
+        when(producer.sendSpaceshipEvents(any())).thenReturn(List.of(
+                CompletableFuture.failedFuture(new RecordTooLargeException("record too large")),
+                CompletableFuture.completedFuture(null)));
+
+        assertEquals(2, createRelay(producer).relayBatch());
+
+        verify(outboxRepository, times(1)).markSent(List.of(2L));
+        verify(outboxRepository, times(1)).recordFailedAttempt(eq(1L), eq(3), contains("record too large"));
+    }
+
+    @Test
+    void relayBatch_shouldParkEventAtOnceAndSendTheRest_whenPayloadIsCorrupt() throws Exception {
+        SpaceshipProducer producer = mock(SpaceshipProducer.class);
+        SpaceshipOutboxEvent corruptEvent = outboxEvent(1L, "CREATE", 10L);
+        corruptEvent.setPayload("{not json");
+        SpaceshipOutboxEvent readableEvent = outboxEvent(2L, "CREATE", 20L);
+        when(outboxRepository.findUnsentBatch(500)).thenReturn(List.of(corruptEvent, readableEvent));
+        when(producer.sendSpaceshipEvents(any())).thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        assertEquals(2, createRelay(producer).relayBatch());
+
+        verify(outboxRepository, times(1)).recordFailedAttempt(eq(1L), eq(1), any());
+        verify(producer, times(1)).sendSpaceshipEvents(
+                List.of(objectMapper.readValue(readableEvent.getPayload(), SpaceshipEventDto.class)));
+        verify(outboxRepository, times(1)).markSent(List.of(2L));
+    }
+
+    @Test
+    void refreshBacklog_shouldExportUnsentAndFailedCounts() {
+        when(outboxRepository.countUnsent()).thenReturn(42L);
+        when(outboxRepository.countFailed()).thenReturn(3L);
+
+        createRelay(mock(SpaceshipProducer.class)).refreshBacklog();
+
+        assertEquals(42, meterRegistry.get("spaceship.outbox.unsent").gauge().value());
+        assertEquals(3, meterRegistry.get("spaceship.outbox.failed").gauge().value());
+    }
+
+    @Test
+    void relayBatch_shouldSkipDraining_whenAnotherRelayHoldsTheLock() {
+        SpaceshipProducer producer = mock(SpaceshipProducer.class);
+        when(outboxRepository.tryAcquireRelayLock(SpaceshipOutboxRelay.RELAY_LOCK_KEY)).thenReturn(false);
+
+        assertEquals(0, createRelay(producer).relayBatch());
+
+        verify(outboxRepository, never()).findUnsentBatch(anyInt());
+        verify(producer, never()).sendSpaceshipEvents(any());
+    }
+
+    private SpaceshipOutboxRelay createRelay(SpaceshipProducer producer) {
+        return new SpaceshipOutboxRelay(outboxRepository, producer, objectMapper, transactionManager, meterRegistry,
+                500, Duration.ofSeconds(10), Duration.ofDays(1), 3);
+    }
+
+    private KafkaSpaceshipProducer createKafkaProducer() {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put("key.serializer", StringSerializer.class);
+        props.put("value.serializer", JsonSerializer.class);
+        KafkaSpaceshipProducer producer = new KafkaSpaceshipProducer(
+                new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props)), meterRegistry);
+        ReflectionTestUtils.setField(producer, "spaceshipTopic", TOPIC);
+        return producer;
+    }
+
+    private Consumer<String, SpaceshipEventDto> createConsumer() {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("outbox-relay-test", "false", broker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        JsonDeserializer<SpaceshipEventDto> valueDeserializer = new JsonDeserializer<>(SpaceshipEventDto.class);
+        valueDeserializer.addTrustedPackages("com.develop.management.dto.spaceship");
+        Consumer<String, SpaceshipEventDto> consumer = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), valueDeserializer).createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+        return consumer;
+    }
+
+    private SpaceshipOutboxEvent outboxEvent(Long id, String eventType, Long spaceshipId) throws Exception {
+        SpaceshipOutboxEvent outboxEvent = new SpaceshipOutboxEvent();
+        outboxEvent.setId(id);
+        outboxEvent.setEventType(eventType);
+        outboxEvent.setSpaceshipId(spaceshipId);
+        outboxEvent.setPayload(objectMapper.writeValueAsString(SpaceshipEventDto.builder()
+                .eventType(eventType)
+                .spaceshipId(spaceshipId)
+                .build()));
+        return outboxEvent;
+    }
+}
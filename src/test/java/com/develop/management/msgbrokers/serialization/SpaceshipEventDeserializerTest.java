@@ -0,0 +1,70 @@
+package com.develop.management.msgbrokers.serialization;
+
+import com.develop.management.dto.spaceship.SpaceshipEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpaceshipEventDeserializerTest {
+
+    private static final String TOPIC = "spaceship-events";
+
+    private final SpaceshipEventAvroSerializer avroSerializer = new SpaceshipEventAvroSerializer();
+    private final SpaceshipEventDeserializer deserializer = new SpaceshipEventDeserializer();
+
+    @BeforeEach
+    void setUp() {
+        deserializer.configure(Map.of("spring.json.trusted.packages", "com.develop.management.dto.spaceship"), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        deserializer.close();
+    }
+
+    @Test
+    void deserialize_shouldReadAvroEvent_whenWrittenByAvroSerializer() {
+        SpaceshipEventDto event = SpaceshipEventDto.builder()
+                .eventType("UPDATE")
+                .spaceshipId(42L)
+                .spaceshipName("Millennium Falcon")
+                .crewCapacity(6)
+                .seriesOrMovie("Star Wars")
+                .build();
+
+        byte[] data = avroSerializer.serialize(TOPIC, event);
+
+        assertEquals(event, deserializer.deserialize(TOPIC, new RecordHeaders(), data));
+        try (JsonSerializer<SpaceshipEventDto> jsonSerializer = new JsonSerializer<>()) {
+            assertTrue(data.length < jsonSerializer.serialize(TOPIC, new RecordHeaders(), event).length);
+        }
+    }
+
+    @Test
+    void deserialize_shouldReadJsonEvent_whenWrittenByJsonSerializer() {
+        SpaceshipEventDto event = SpaceshipEventDto.builder().eventType("DELETE").spaceshipId(7L).build();
+        RecordHeaders headers = new RecordHeaders();
+
+        byte[] data;
+        try (JsonSerializer<SpaceshipEventDto> jsonSerializer = new JsonSerializer<>()) {
+            data = jsonSerializer.serialize(TOPIC, headers, event);
+        }
+
+        assertEquals(event, deserializer.deserialize(TOPIC, headers, data));
+    }
+
+    @Test
+    void deserialize_shouldThrowSerializationException_whenSchemaVersionIsUnknown() {
+        byte[] data = avroSerializer.serialize(TOPIC, SpaceshipEventDto.builder().eventType("CREATE").build());
+        data[4] = 99;
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, new RecordHeaders(), data));
+    }
+}
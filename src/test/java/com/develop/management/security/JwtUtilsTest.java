@@ -0,0 +1,55 @@
+package com.develop.management.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "SuperSecretTestSecretKey1234567890987654321";
+
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = new JwtUtils(SECRET, 100);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 60_000);
+    }
+
+    @Test
+    void parseToken_shouldReturnPrincipal_whenTokenIsValid() {
+        String token = jwtUtils.generateJwtToken("admin@gmail.com", List.of("ADMIN"));
+
+        Optional<JwtPrincipal> principal = jwtUtils.parseToken(token);
+
+        assertTrue(principal.isPresent());
+        assertEquals("admin@gmail.com", principal.get().username());
+        assertEquals(List.of(new SimpleGrantedAuthority("ADMIN")), principal.get().authorities());
+    }
+
+    @Test
+    void parseToken_shouldReturnSamePrincipal_whenTokenWasAlreadyVerified() {
+        String token = jwtUtils.generateJwtToken("user@gmail.com", List.of("USER"));
+
+        JwtPrincipal first = jwtUtils.parseToken(token).orElseThrow();
+        JwtPrincipal second = jwtUtils.parseToken(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void parseToken_shouldReturnEmpty_whenSignatureDoesNotMatch() {
+        JwtUtils otherIssuer = new JwtUtils("AnotherSecretKeyThatIsLongEnough1234567890", 100);
+        ReflectionTestUtils.setField(otherIssuer, "jwtExpirationMs", 60_000);
+        String token = otherIssuer.generateJwtToken("user@gmail.com", List.of("USER"));
+
+        assertTrue(jwtUtils.parseToken(token).isEmpty());
+        assertFalse(jwtUtils.validateJwtToken(token));
+    }
+}
@@ -1,29 +1,53 @@
 package com.develop.management.service;
 
+import com.develop.management.cache.CacheGenerationService;
+import com.develop.management.cache.PageOrderGenerations;
+import com.develop.management.cache.SpaceshipIdFilter;
+import com.develop.management.cache.TwoLevelCache;
+import com.develop.management.cache.TwoLevelCacheManager;
+import com.develop.management.dto.spaceship.BulkItemResultDto;
+import com.develop.management.dto.spaceship.BulkItemStatus;
+import com.develop.management.dto.spaceship.BulkOperationResponseDto;
 import com.develop.management.dto.spaceship.CreateSpaceshipRequestDto;
+import com.develop.management.dto.spaceship.CursorPageResponseDto;
 import com.develop.management.dto.spaceship.PageResponseDto;
 import com.develop.management.dto.spaceship.SpaceshipDto;
+import com.develop.management.dto.spaceship.SpaceshipIdPageDto;
 import com.develop.management.dto.spaceship.SpaceshipsDataDto;
-import com.develop.management.exception.EntityNotFoundException;
-import com.develop.management.msgbrokers.kafka.KafkaSpaceshipProducer;
+import com.develop.management.dto.spaceship.UpdateSpaceshipItemDto;
+import com.develop.management.exception.InvalidCursorException;
+import com.develop.management.mapper.SpaceshipMapper;
+import com.develop.management.msgbrokers.outbox.SpaceshipEventOutbox;
 import com.develop.management.model.Spaceship;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
 import com.develop.management.exception.InvalidSpaceshipIdException;
+import com.develop.management.exception.SpaceshipVersionMismatchException;
 import com.develop.management.repository.SpaceshipRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,31 +61,88 @@ class SpaceshipServiceTest {
     @Mock
     private SpaceshipRepository spaceshipRepository;
 
+    @Spy
+    private SpaceshipMapper spaceshipMapper = Mappers.getMapper(SpaceshipMapper.class);
+
+    @Mock
+    private SpaceshipEventOutbox spaceshipEventOutbox;
+
+    @Mock
+    private CacheGenerationService cacheGenerationService;
+
+    @Mock
+    private PageOrderGenerations pageOrderGenerations;
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    @Mock
+    private TwoLevelCache spaceshipCache;
+
+    @Mock
+    private TwoLevelCache spaceshipPageCache;
+
+    @Mock
+    private SpaceshipIdFilter spaceshipIdFilter;
+
     @Mock
-    private ObjectMapper objectMapper;
+    private SpaceshipLoader spaceshipLoader;
 
     @Mock
-    private KafkaSpaceshipProducer kafkaSpaceshipProducer;
+    private Validator validator;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(cacheManager.getCache("spaceship")).thenReturn(spaceshipCache);
+        when(cacheManager.getCache("spaceships")).thenReturn(spaceshipPageCache);
+        when(spaceshipPageCache.get(anyString(), any(Callable.class)))
+                .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
+        when(spaceshipIdFilter.check(anyLong())).thenReturn(true);
     }
 
     @Test
     void getAllSpaceships_shouldReturnAllSpaceships_whenSpaceshipsExist() {
         Pageable pageable = PageRequest.of(0, 5);
-        List<Spaceship> spaceshipList = Arrays.asList(new Spaceship(), new Spaceship());
-        Page<Spaceship> spaceshipPage = new PageImpl<>(spaceshipList);
-
-        when(spaceshipRepository.getAllSpaceships(pageable)).thenReturn(spaceshipPage);
-        when(objectMapper.convertValue(any(Spaceship.class), eq(SpaceshipDto.class)))
-                .thenReturn(new SpaceshipDto());
+        Pageable orderedPageable = PageRequest.of(0, 5, Sort.by("id"));
+        Spaceship first = new Spaceship();
+        first.setId(1L);
+        Spaceship second = new Spaceship();
+        second.setId(2L);
+        Page<Spaceship> spaceshipPage = new PageImpl<>(Arrays.asList(first, second));
+        Map<Long, SpaceshipDto> spaceships = new LinkedHashMap<>();
+        spaceships.put(1L, spaceshipMapper.toDto(first));
+        spaceships.put(2L, spaceshipMapper.toDto(second));
+
+        when(spaceshipRepository.getAllSpaceships(orderedPageable)).thenReturn(spaceshipPage);
+        when(spaceshipLoader.loadAll(List.of(1L, 2L))).thenReturn(spaceships);
 
         PageResponseDto<SpaceshipDto> result = spaceshipService.getAllSpaceships(pageable);
 
         assertEquals(2, result.getContent().size());
-        verify(spaceshipRepository, times(1)).getAllSpaceships(pageable);
+        assertEquals(2L, result.getContent().get(1).getId());
+        verify(spaceshipRepository, times(1)).getAllSpaceships(orderedPageable);
+        verify(spaceshipCache, times(1)).putAllIfAbsent(spaceships);
+    }
+
+    @Test
+    void getAllSpaceships_shouldResolveCachedIds_whenPageIsCached() {
+        SpaceshipDto falcon = new SpaceshipDto(7L, "Millennium Falcon", "Star Wars", "Light freighter", 6, 3L);
+        Map<Long, SpaceshipDto> spaceships = new LinkedHashMap<>();
+        spaceships.put(7L, falcon);
+        spaceships.put(9L, null);
+
+        when(pageOrderGenerations.current(Sort.by("name").and(Sort.by("id")))).thenReturn(4L);
+        when(spaceshipPageCache.get(eq("order:4:page:1:size:2:sort:name: ASC,id: ASC"), any(Callable.class)))
+                .thenReturn(new SpaceshipIdPageDto(List.of(7L, 9L), 4L, 2));
+        when(spaceshipLoader.loadAll(List.of(7L, 9L))).thenReturn(spaceships);
+
+        PageResponseDto<SpaceshipDto> result = spaceshipService.getAllSpaceships(PageRequest.of(1, 2, Sort.by("name")));
+
+        assertEquals(List.of(falcon), result.getContent());
+        assertEquals(4L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        verify(spaceshipRepository, never()).getAllSpaceships(any(Pageable.class));
     }
 
     @Test
@@ -69,40 +150,87 @@ class SpaceshipServiceTest {
         Pageable pageable = PageRequest.of(0, 5);
         Page<Spaceship> emptyPage = new PageImpl<>(Collections.emptyList());
 
-        when(spaceshipRepository.getAllSpaceships(pageable)).thenReturn(emptyPage);
+        when(spaceshipRepository.getAllSpaceships(any(Pageable.class))).thenReturn(emptyPage);
 
         PageResponseDto<SpaceshipDto> result = spaceshipService.getAllSpaceships(pageable);
 
         assertTrue(result.getContent().isEmpty());
-        verify(spaceshipRepository, times(1)).getAllSpaceships(pageable);
+        verify(spaceshipRepository, times(1)).getAllSpaceships(any(Pageable.class));
+        verify(spaceshipLoader, never()).loadAll(any());
+    }
+
+    @Test
+    void getSpaceshipsAfter_shouldReturnNextCursor_whenMoreSpaceshipsExist() {
+        Spaceship first = new Spaceship();
+        first.setId(1L);
+        first.setName("Enterprise");
+        Spaceship second = new Spaceship();
+        second.setId(2L);
+        second.setName("Millennium Falcon");
+
+        when(spaceshipRepository.findPageAfterName("", 0L, 2)).thenReturn(List.of(first, second));
+
+        CursorPageResponseDto<SpaceshipDto> result = spaceshipService.getSpaceshipsAfter(null, 1, "name");
+
+        assertEquals(1, result.getContent().size());
+        assertNotNull(result.getNextCursor());
+
+        when(spaceshipRepository.findPageAfterName("Enterprise", 1L, 2)).thenReturn(List.of(second));
+
+        CursorPageResponseDto<SpaceshipDto> nextPage = spaceshipService.getSpaceshipsAfter(result.getNextCursor(), 1, "name");
+
+        assertEquals(1, nextPage.getContent().size());
+        assertNull(nextPage.getNextCursor());
+        verify(spaceshipRepository, never()).getAllSpaceships(any(Pageable.class));
+    }
+
+    @Test
+    void getSpaceshipsAfter_shouldThrowException_whenCursorIsMalformed() {
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class, () -> {
+            spaceshipService.getSpaceshipsAfter("not-a-cursor", 10, "id");
+        });
+
+        assertEquals("Malformed cursor: not-a-cursor", exception.getMessage());
+        verify(spaceshipRepository, never()).findPageAfterId(anyLong(), anyInt());
     }
 
     @Test
     void getSpaceshipById_shouldReturnSpaceship_whenIdIsValid() {
         Long spaceshipId = 1L;
-        Spaceship spaceship = new Spaceship();
-        spaceship.setId(spaceshipId);
+        SpaceshipDto spaceship = new SpaceshipDto(spaceshipId, "X-Wing", "Star Wars", "Starfighter", 1, 0L);
 
-        when(spaceshipRepository.findById(spaceshipId)).thenReturn(Optional.of(spaceship));
-        when(objectMapper.convertValue(spaceship, SpaceshipDto.class)).thenReturn(new SpaceshipDto());
+        when(spaceshipLoader.load(spaceshipId)).thenReturn(Optional.of(spaceship));
 
         Optional<SpaceshipDto> result = spaceshipService.getSpaceshipById(spaceshipId);
 
-        assertTrue(result.isPresent());
-        verify(spaceshipRepository, times(1)).findById(spaceshipId);
+        assertEquals(Optional.of(spaceship), result);
+        verify(spaceshipLoader, times(1)).load(spaceshipId);
     }
 
     @Test
-    void getSpaceshipById_shouldThrowException_whenSpaceshipNotFound() {
+    void getSpaceshipById_shouldReturnEmpty_whenSpaceshipNotFound() {
         Long spaceshipId = 1L;
 
-        when(spaceshipRepository.findById(spaceshipId)).thenReturn(Optional.empty());
-        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            spaceshipService.getSpaceshipById(spaceshipId);
-        });
+        when(spaceshipLoader.load(spaceshipId)).thenReturn(Optional.empty());
 
-        assertEquals("Spaceship with ID " + spaceshipId + " not found", exception.getMessage());
-        verify(spaceshipRepository, times(1)).findById(spaceshipId);
+        Optional<SpaceshipDto> result = spaceshipService.getSpaceshipById(spaceshipId);
+
+        assertTrue(result.isEmpty());
+        verify(spaceshipLoader, times(1)).load(spaceshipId);
+        verify(spaceshipIdFilter, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    void getSpaceshipById_shouldSkipDatabase_whenIdFilterRejectsId() {
+        Long spaceshipId = 404L;
+
+        when(spaceshipIdFilter.check(spaceshipId)).thenReturn(false);
+
+        Optional<SpaceshipDto> result = spaceshipService.getSpaceshipById(spaceshipId);
+
+        assertTrue(result.isEmpty());
+        verify(spaceshipLoader, never()).load(anyLong());
+        verify(spaceshipIdFilter, never()).recordFalsePositive();
     }
 
     @Test
@@ -114,34 +242,34 @@ class SpaceshipServiceTest {
         });
 
         assertEquals("Spaceship ID cannot be negative, ID: -1", exception.getMessage());
-        verify(spaceshipRepository, never()).findById(anyLong());
+        verify(spaceshipLoader, never()).load(anyLong());
     }
 
     @Test
     void searchSpaceshipsByName_shouldReturnMatchingSpaceships_whenMatchesExist() {
         String name = "Millennium";
+        Pageable pageable = PageRequest.of(0, 5);
         List<Spaceship> spaceshipList = Arrays.asList(new Spaceship(), new Spaceship());
 
-        when(spaceshipRepository.findByNameContaining(name)).thenReturn(spaceshipList);
-        when(objectMapper.convertValue(any(Spaceship.class), eq(SpaceshipDto.class)))
-                .thenReturn(new SpaceshipDto());
+        when(spaceshipRepository.findByNameContaining(name, pageable)).thenReturn(spaceshipList);
 
-        SpaceshipsDataDto result = spaceshipService.searchSpaceshipsByName(name);
+        SpaceshipsDataDto result = spaceshipService.searchSpaceshipsByName(name, pageable);
 
         assertEquals(2, result.getSpaceships().size());
-        verify(spaceshipRepository, times(1)).findByNameContaining(name);
+        verify(spaceshipRepository, times(1)).findByNameContaining(name, pageable);
     }
 
     @Test
     void searchSpaceshipsByName_shouldReturnEmptyList_whenNoMatchesFound() {
         String name = "Nonexistent Ship";
+        Pageable pageable = PageRequest.of(0, 5);
 
-        when(spaceshipRepository.findByNameContaining(name)).thenReturn(Collections.emptyList());
+        when(spaceshipRepository.findByNameContaining(name, pageable)).thenReturn(Collections.emptyList());
 
-        SpaceshipsDataDto result = spaceshipService.searchSpaceshipsByName(name);
+        SpaceshipsDataDto result = spaceshipService.searchSpaceshipsByName(name, pageable);
 
         assertTrue(result.getSpaceships().isEmpty());
-        verify(spaceshipRepository, times(1)).findByNameContaining(name);
+        verify(spaceshipRepository, times(1)).findByNameContaining(name, pageable);
     }
 
     @Test
@@ -151,19 +279,16 @@ class SpaceshipServiceTest {
         Spaceship savedSpaceship = new Spaceship();
         savedSpaceship.setId(1L);
 
-        SpaceshipDto spaceshipDto = new SpaceshipDto();
-        spaceshipDto.setId(1L);
-
-        when(objectMapper.convertValue(spaceshipRequest, Spaceship.class)).thenReturn(spaceship);
+        doReturn(spaceship).when(spaceshipMapper).toEntity(spaceshipRequest);
         when(spaceshipRepository.save(spaceship)).thenReturn(savedSpaceship);
-        when(objectMapper.convertValue(savedSpaceship, SpaceshipDto.class)).thenReturn(spaceshipDto);
 
         SpaceshipDto result = spaceshipService.createSpaceship(spaceshipRequest);
 
         assertNotNull(result);
         verify(spaceshipRepository, times(1)).save(spaceship);
+        verify(cacheGenerationService, times(1)).advance();
 
-        verify(kafkaSpaceshipProducer, times(1)).sendSpaceshipEvent(
+        verify(spaceshipEventOutbox, times(1)).append(
                 argThat(event -> "CREATE".equals(event.getEventType())
                         && event.getSpaceshipId().equals(1L))
         );
@@ -189,25 +314,119 @@ class SpaceshipServiceTest {
         updatedSpaceship.setCrewCapacity(spaceshipRequest.getCrewCapacity());
         updatedSpaceship.setSeriesOrMovie(spaceshipRequest.getSeriesOrMovie());
 
-        SpaceshipDto updatedSpaceshipDto = new SpaceshipDto();
-        updatedSpaceshipDto.setId(spaceshipId);
-
         when(spaceshipRepository.findById(spaceshipId)).thenReturn(Optional.of(existingSpaceship));
-        when(spaceshipRepository.save(existingSpaceship)).thenReturn(updatedSpaceship);
-        when(objectMapper.convertValue(updatedSpaceship, SpaceshipDto.class)).thenReturn(updatedSpaceshipDto);
+        when(spaceshipRepository.saveAndFlush(existingSpaceship)).thenReturn(updatedSpaceship);
 
         SpaceshipDto result = spaceshipService.updateSpaceship(spaceshipId, spaceshipRequest);
 
         assertNotNull(result);
+        assertEquals("New Name", existingSpaceship.getName());
+        assertEquals(10, existingSpaceship.getCrewCapacity());
         verify(spaceshipRepository, times(1)).findById(spaceshipId);
-        verify(spaceshipRepository, times(1)).save(existingSpaceship);
+        verify(spaceshipRepository, times(1)).saveAndFlush(existingSpaceship);
+        verify(cacheGenerationService, times(1)).advance();
 
-        verify(kafkaSpaceshipProducer, times(1)).sendSpaceshipEvent(
+        verify(spaceshipEventOutbox, times(1)).append(
                 argThat(event -> "UPDATE".equals(event.getEventType())
                         && event.getSpaceshipId().equals(spaceshipId))
         );
     }
 
+    @Test
+    void updateSpaceship_shouldAdvanceOnlyChangedSortFields_whenOtherFieldsAreUnchanged() {
+        CreateSpaceshipRequestDto spaceshipRequest = CreateSpaceshipRequestDto.builder()
+                .name("Enterprise")
+                .type("Starship")
+                .crewCapacity(1012)
+                .seriesOrMovie("Star Trek")
+                .build();
+        Spaceship existingSpaceship = new Spaceship();
+        existingSpaceship.setId(1L);
+        existingSpaceship.setName("Enterprise");
+        existingSpaceship.setType("Starship");
+        existingSpaceship.setCrewCapacity(430);
+        existingSpaceship.setSeriesOrMovie("Star Trek");
+
+        when(spaceshipRepository.findById(1L)).thenReturn(Optional.of(existingSpaceship));
+        when(spaceshipRepository.saveAndFlush(existingSpaceship)).thenReturn(existingSpaceship);
+
+        spaceshipService.updateSpaceship(1L, spaceshipRequest);
+
+        verify(pageOrderGenerations, times(1)).advance(Set.of(PageOrderGenerations.ANY_FIELD, "crewCapacity"));
+        verify(cacheGenerationService, times(1)).advance();
+    }
+
+    @Test
+    void updateSpaceship_shouldAcceptReturnedVersion_whenUpdatingAgain() {
+        Spaceship existingSpaceship = new Spaceship();
+        existingSpaceship.setId(1L);
+        existingSpaceship.setVersion(3L);
+        CreateSpaceshipRequestDto spaceshipRequest = CreateSpaceshipRequestDto.builder()
+                .name("Enterprise")
+                .type("Starship")
+                .crewCapacity(430)
+                .build();
+
+        when(spaceshipRepository.findById(1L)).thenReturn(Optional.of(existingSpaceship));
+        // As Hibernate does on flush
+        when(spaceshipRepository.saveAndFlush(existingSpaceship)).thenAnswer(invocation -> {
+            existingSpaceship.setVersion(existingSpaceship.getVersion() + 1);
+            return existingSpaceship;
+        });
+
+        SpaceshipDto first = spaceshipService.updateSpaceship(1L, spaceshipRequest, 3L);
+        SpaceshipDto second = spaceshipService.updateSpaceship(1L, spaceshipRequest, first.getVersion());
+
+        assertEquals(4L, first.getVersion());
+        assertEquals(5L, second.getVersion());
+    }
+
+    @Test
+    void updateSpaceships_shouldReportWrittenVersions_whenItemsAreUpdated() {
+        Spaceship existingSpaceship = new Spaceship();
+        existingSpaceship.setId(1L);
+        existingSpaceship.setVersion(3L);
+        UpdateSpaceshipItemDto item = new UpdateSpaceshipItemDto(1L, CreateSpaceshipRequestDto.builder()
+                .name("Enterprise")
+                .type("Starship")
+                .build());
+
+        when(spaceshipRepository.findAllActiveByIds(Set.of(1L))).thenReturn(List.of(existingSpaceship));
+        when(spaceshipRepository.saveAllAndFlush(List.of(existingSpaceship))).thenAnswer(invocation -> {
+            existingSpaceship.setVersion(4L);
+            return List.of(existingSpaceship);
+        });
+
+        BulkOperationResponseDto result = spaceshipService.updateSpaceships(List.of(item));
+
+        assertEquals(BulkItemStatus.UPDATED, result.getResults().get(0).getStatus());
+        assertEquals(4L, result.getResults().get(0).getSpaceship().getVersion());
+        verify(spaceshipEventOutbox, times(1)).appendAll(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void updateSpaceships_shouldRejectRepeatedIds_whenOneSpaceshipIsListedTwice() {
+        Spaceship first = new Spaceship();
+        first.setId(1L);
+        Spaceship second = new Spaceship();
+        second.setId(2L);
+        CreateSpaceshipRequestDto request = CreateSpaceshipRequestDto.builder().name("Enterprise").type("Starship").build();
+
+        when(spaceshipRepository.findAllActiveByIds(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(spaceshipRepository.saveAllAndFlush(List.of(second))).thenReturn(List.of(second));
+
+        BulkOperationResponseDto result = spaceshipService.updateSpaceships(List.of(
+                new UpdateSpaceshipItemDto(1L, request),
+                new UpdateSpaceshipItemDto(2L, request),
+                new UpdateSpaceshipItemDto(1L, request)));
+
+        assertEquals(List.of(BulkItemStatus.INVALID, BulkItemStatus.UPDATED, BulkItemStatus.INVALID),
+                result.getResults().stream().map(BulkItemResultDto::getStatus).toList());
+        assertEquals(List.of("id is repeated in the request"), result.getResults().get(2).getErrors());
+        assertNull(first.getName());
+        verify(spaceshipEventOutbox, times(1)).appendAll(argThat(events -> events.size() == 1));
+    }
+
     @Test
     void updateSpaceship_shouldThrowException_whenSpaceshipNotFound() {
         Long spaceshipId = 1L;
@@ -228,6 +447,26 @@ class SpaceshipServiceTest {
         verify(spaceshipRepository, never()).save(any(Spaceship.class));
     }
 
+    @Test
+    void updateSpaceship_shouldRejectUpdate_whenExpectedVersionIsStale() {
+        CreateSpaceshipRequestDto spaceshipRequest = CreateSpaceshipRequestDto.builder()
+                .name("New Name")
+                .type("New Type")
+                .build();
+        Spaceship existingSpaceship = new Spaceship();
+        existingSpaceship.setId(1L);
+        existingSpaceship.setVersion(3);
+
+        when(spaceshipRepository.findById(1L)).thenReturn(Optional.of(existingSpaceship));
+
+        assertThrows(SpaceshipVersionMismatchException.class,
+                () -> spaceshipService.updateSpaceship(1L, spaceshipRequest, 2L));
+
+        verify(spaceshipRepository, never()).save(any(Spaceship.class));
+        verify(cacheGenerationService, never()).advance();
+        verify(spaceshipEventOutbox, never()).append(any());
+    }
+
     @Test
     void deleteSpaceship_shouldDeleteSpaceship_whenIdIsValid() {
         Long spaceshipId = 1L;
@@ -237,7 +476,8 @@ class SpaceshipServiceTest {
         spaceshipService.deleteSpaceship(spaceshipId);
 
         verify(spaceshipRepository, times(1)).deleteById(spaceshipId);
-        verify(kafkaSpaceshipProducer, times(1)).sendSpaceshipEvent(
+        verify(cacheGenerationService, times(1)).advance();
+        verify(spaceshipEventOutbox, times(1)).append(
                 argThat(event -> "DELETE".equals(event.getEventType()) && event.getSpaceshipId().equals(spaceshipId))
         );
     }
@@ -254,5 +494,98 @@ class SpaceshipServiceTest {
 
         assertEquals("Spaceship ID not found: " + spaceshipId, exception.getMessage());
         verify(spaceshipRepository, never()).deleteById(anyLong());
+        verify(cacheGenerationService, never()).advance();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createSpaceships_shouldReportInvalidItemsAndSendOneEventBatch_whenSomeItemsAreInvalid() {
+        CreateSpaceshipRequestDto validRequest = CreateSpaceshipRequestDto.builder()
+                .name("Millennium Falcon")
+                .type("Freighter")
+                .seriesOrMovie("Star Wars")
+                .build();
+        CreateSpaceshipRequestDto invalidRequest = new CreateSpaceshipRequestDto();
+        Spaceship spaceship = new Spaceship();
+        Spaceship savedSpaceship = new Spaceship();
+        savedSpaceship.setId(1L);
+
+        ConstraintViolation<CreateSpaceshipRequestDto> violation = mock(ConstraintViolation.class);
+        Path path = mock(Path.class);
+        when(path.toString()).thenReturn("name");
+        when(violation.getPropertyPath()).thenReturn(path);
+        when(violation.getMessage()).thenReturn("must not be null");
+        when(validator.validate(invalidRequest)).thenReturn(Set.of(violation));
+        doReturn(spaceship).when(spaceshipMapper).toEntity(validRequest);
+        when(spaceshipRepository.saveAll(List.of(spaceship))).thenReturn(List.of(savedSpaceship));
+
+        BulkOperationResponseDto result = spaceshipService.createSpaceships(List.of(validRequest, invalidRequest));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(BulkItemStatus.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(BulkItemStatus.INVALID, result.getResults().get(1).getStatus());
+        assertEquals(List.of("name must not be null"), result.getResults().get(1).getErrors());
+        verify(cacheGenerationService, times(1)).advance();
+        verify(spaceshipEventOutbox, times(1)).appendAll(
+                argThat(events -> events.size() == 1 && "CREATE".equals(events.get(0).getEventType()))
+        );
+        verify(spaceshipEventOutbox, never()).append(any());
+    }
+
+    @Test
+    void deleteSpaceships_shouldMarkMissingIdsAsNotFound_whenSomeSpaceshipsDoNotExist() {
+        Spaceship existingSpaceship = new Spaceship();
+        existingSpaceship.setId(1L);
+
+        when(spaceshipRepository.findAllActiveByIds(Set.of(1L, 2L))).thenReturn(List.of(existingSpaceship));
+
+        BulkOperationResponseDto result = spaceshipService.deleteSpaceships(List.of(1L, 2L));
+
+        assertEquals(BulkItemStatus.DELETED, result.getResults().get(0).getStatus());
+        assertEquals(BulkItemStatus.NOT_FOUND, result.getResults().get(1).getStatus());
+        verify(spaceshipRepository, times(1)).deleteAllByIds(Set.of(1L));
+        verify(spaceshipCache, times(1)).evictAll(Set.of(1L));
+        verify(cacheGenerationService, times(1)).advance();
+    }
+
+    @Test
+    void deleteSpaceships_shouldEvictCachedSpaceships_onlyAfterCommit() {
+        Spaceship existingSpaceship = new Spaceship();
+        existingSpaceship.setId(1L);
+        when(spaceshipRepository.findAllActiveByIds(Set.of(1L))).thenReturn(List.of(existingSpaceship));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            spaceshipService.deleteSpaceships(List.of(1L));
+
+            verify(spaceshipCache, never()).evictAll(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(spaceshipCache, times(1)).evictAll(Set.of(1L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getSpaceshipsByIds_shouldKeepRequestOrderAndMarkMissingIds_whenSomeSpaceshipsDoNotExist() {
+        SpaceshipDto falcon = new SpaceshipDto(1L, "Millennium Falcon", "Star Wars", "Light freighter", 6, 0L);
+        Map<Long, SpaceshipDto> loaded = new LinkedHashMap<>();
+        loaded.put(1L, falcon);
+        loaded.put(2L, null);
+
+        when(spaceshipIdFilter.check(404L)).thenReturn(false);
+        when(spaceshipLoader.loadAll(Set.of(1L, 2L))).thenReturn(loaded);
+
+        BulkOperationResponseDto result = spaceshipService.getSpaceshipsByIds(Arrays.asList(2L, 1L, null, 404L, 1L));
+
+        assertEquals(List.of(BulkItemStatus.NOT_FOUND, BulkItemStatus.FOUND, BulkItemStatus.INVALID,
+                BulkItemStatus.NOT_FOUND, BulkItemStatus.FOUND), result.getResults().stream().map(BulkItemResultDto::getStatus).toList());
+        assertEquals(falcon, result.getResults().get(4).getSpaceship());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(3, result.getFailed());
+        verify(spaceshipLoader, times(1)).loadAll(Set.of(1L, 2L));
+        // Only id 2 passed the filter and was missing; 404 was rejected by it
+        verify(spaceshipIdFilter, times(1)).recordFalsePositive();
     }
 }
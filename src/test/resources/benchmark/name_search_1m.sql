@@ -0,0 +1,38 @@
+-- Name search latency at 1M rows, before and after the pg_trgm index.
+-- Run against a scratch database with the Liquibase changelog applied:
+--   psql -h localhost -U username -d spaceshipdb -f src/test/resources/benchmark/name_search_1m.sql
+
+\timing on
+
+TRUNCATE spaceships;
+
+INSERT INTO spaceships (id, name, series_or_movie, type, crew_capacity)
+SELECT i,
+       'Ship ' || md5(i::text) || ' ' || (ARRAY['Falcon', 'Enterprise', 'Voyager', 'Serenity', 'Galactica'])[1 + i % 5],
+       'Series ' || (i % 100),
+       'Type ' || (i % 10),
+       i % 1000
+FROM generate_series(1, 1000000) AS i;
+
+-- Keep the pooled sequence above the inserted ids, as the spaceships_sequence changeset does
+SELECT setval('spaceships_seq', (SELECT MAX(id) FROM spaceships) + 50, false);
+
+ANALYZE spaceships;
+
+-- Before: LIKE scan without the trigram index, unbounded result
+DROP INDEX IF EXISTS idx_spaceships_active_name_trgm;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM spaceships WHERE is_deleted = false AND name LIKE CONCAT('%', 'e4f1', '%');
+
+-- After: same predicate served by the GIN index, ranked and limited to one page
+CREATE INDEX idx_spaceships_active_name_trgm
+    ON spaceships USING gin (name gin_trgm_ops)
+    WHERE is_deleted = false;
+
+ANALYZE spaceships;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM spaceships WHERE is_deleted = false AND name LIKE CONCAT('%', 'e4f1', '%')
+ORDER BY similarity(name, 'e4f1') DESC, id
+LIMIT 20 OFFSET 0;